@@ -0,0 +1,55 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.User;
+import com.taskmanager.security.AuthenticatedUser;
+import com.taskmanager.security.JwtTokenUtil;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The complete Spring Security filter chain, including JwtAuthenticationFilter, for an authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthFilterChainBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean principalFromClaims;
+
+    private BenchmarkContext context;
+    private Filter filterChain;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("security.principal.from-claims=" + principalFromClaims);
+        filterChain = context.bean("springSecurityFilterChain", Filter.class);
+        User user = context.createUser();
+        authorization = "Bearer " + context.bean(JwtTokenUtil.class).generateToken(AuthenticatedUser.from(user));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.setContextPath("/api");
+        request.setServletPath("/tasks");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filterChain.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.TaskManagerApplication;
+import com.taskmanager.model.User;
+import com.taskmanager.service.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application once per trial against the embedded H2 database of the "benchmark" profile.
+ */
+final class BenchmarkContext implements AutoCloseable {
+
+    static final String PASSWORD = "Benchmark1@";
+
+    private static final AtomicLong USER_SEQUENCE = new AtomicLong();
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static BenchmarkContext start(String... properties) {
+        return new BenchmarkContext(new SpringApplicationBuilder(TaskManagerApplication.class)
+                .profiles("benchmark")
+                .properties(properties)
+                .run());
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    <T> T bean(String name, Class<T> type) {
+        return context.getBean(name, type);
+    }
+
+    User createUser() {
+        long n = USER_SEQUENCE.incrementAndGet();
+        User user = new User();
+        user.setUsername("bench-user-" + n + "-" + System.nanoTime());
+        user.setEmail("bench" + n + "-" + System.nanoTime() + "@example.com");
+        user.setPassword(PASSWORD);
+        return bean(UserService.class).registerUser(user);
+    }
+
+    /**
+     * Bulk-loads tasks for a user with plain JDBC batches, cycling through statuses and due dates.
+     */
+    void seedTasks(Long userId, int count) {
+        JdbcTemplate jdbc = bean(JdbcTemplate.class);
+        String[] statuses = { "TODO", "IN_PROGRESS", "DONE" };
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            Timestamp dueDate = i % 10 == 0 ? null : Timestamp.valueOf(base.plusHours(i % 2_000));
+            batch.add(new Object[] { "Task " + i, "Benchmark task number " + i, statuses[i % 3], dueDate, userId });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insert(jdbc, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(jdbc, batch);
+        }
+    }
+
+    long[] taskIds(Long userId) {
+        return bean(JdbcTemplate.class).queryForList("select id from tasks where user_id = ?", Long.class, userId)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void insert(JdbcTemplate jdbc, List<Object[]> batch) {
+        jdbc.batchUpdate("insert into tasks (id, title, description, status, due_date, user_id) "
+                + "values (nextval('tasks_seq'), ?, ?, ?, ?, ?)", batch);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
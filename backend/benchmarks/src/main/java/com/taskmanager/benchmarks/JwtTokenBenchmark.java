@@ -0,0 +1,68 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.security.AuthenticatedUser;
+import com.taskmanager.security.JwtTokenUtil;
+import com.taskmanager.security.TokenClaims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuance and validation. The "cold" variant cycles through more distinct tokens than the verified-token
+ * cache holds, so every call pays for a full parse and signature check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private static final int COLD_TOKENS = 50_000;
+
+    private BenchmarkContext context;
+    private JwtTokenUtil jwtTokenUtil;
+    private AuthenticatedUser user;
+    private String hotToken;
+    private String[] coldTokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("jwt.verified-cache.max-size=1000");
+        jwtTokenUtil = context.bean(JwtTokenUtil.class);
+        user = new AuthenticatedUser(1L, "bench", "bench@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        hotToken = jwtTokenUtil.generateToken(user);
+        coldTokens = new String[COLD_TOKENS];
+        for (int i = 0; i < COLD_TOKENS; i++) {
+            coldTokens[i] = jwtTokenUtil.generateToken(user);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> validateHotToken() {
+        return jwtTokenUtil.validate(hotToken);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> validateColdToken() {
+        String token = coldTokens[next];
+        next = (next + 1) % COLD_TOKENS;
+        return jwtTokenUtil.validate(token);
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.model.User;
+import com.taskmanager.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost as paid by registration (hash) and login (verify through the AuthenticationManager).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private BenchmarkContext context;
+    private UserService userService;
+    private AuthenticationManager authenticationManager;
+    private String username;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userService = context.bean(UserService.class);
+        authenticationManager = context.bean(AuthenticationManager.class);
+        username = context.createUser().getUsername();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User registerUser() {
+        return context.createUser();
+    }
+
+    @Benchmark
+    public Authentication login() {
+        return authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(username, BenchmarkContext.PASSWORD));
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding a task list response in each supported format, with and without Blackbird. Payload sizes, raw and
+ * gzipped, are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({ "json", "json-blackbird", "cbor-blackbird", "smile-blackbird" })
+    public String format;
+
+    @Param({ "1000" })
+    public int taskCount;
+
+    private ObjectWriter writer;
+    private List<TaskDto> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (format.endsWith("-blackbird")) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        JsonFactory factory = format.startsWith("cbor") ? new CBORFactory()
+                : format.startsWith("smile") ? new SmileFactory() : new JsonFactory();
+        writer = builder.factory(factory).build().writerFor(List.class);
+
+        tasks = new ArrayList<>(taskCount);
+        LocalDateTime due = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new TaskDto((long) i, "Task " + i, "Description of benchmark task " + i,
+                    TaskStatus.values()[i % TaskStatus.values().length], due.plusHours(i), 1L, 0L));
+        }
+
+        byte[] encoded = serialize();
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(encoded);
+        }
+        System.out.printf("%n%s: %d bytes, %d bytes gzipped%n", format, encoded.length, gzipped.size());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(tasks);
+    }
+}
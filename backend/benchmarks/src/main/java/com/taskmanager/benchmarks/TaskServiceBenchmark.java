@@ -0,0 +1,103 @@
+package com.taskmanager.benchmarks;
+
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.model.TaskSort;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskService CRUD and listing at realistic per-user data sizes. Run larger sizes with {@code -p taskCount=1000000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int taskCount;
+
+    private BenchmarkContext context;
+    private TaskService taskService;
+    private Long userId;
+    private long[] taskIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.bean(TaskService.class);
+        userId = context.createUser().getId();
+        context.seedTasks(userId, taskCount);
+        taskIds = context.taskIds(userId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomTaskId() {
+        return taskIds[ThreadLocalRandom.current().nextInt(taskIds.length)];
+    }
+
+    private static TaskRequest newTask() {
+        TaskRequest task = new TaskRequest();
+        task.setTitle("Benchmark task");
+        task.setDescription("Created by TaskServiceBenchmark");
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+        return task;
+    }
+
+    @Benchmark
+    public TaskDto createTask() {
+        return taskService.createTask(newTask(), userId);
+    }
+
+    @Benchmark
+    public TaskDto getTaskById() {
+        return taskService.getTaskById(randomTaskId(), userId);
+    }
+
+    @Benchmark
+    public TaskDto updateTask() {
+        TaskRequest details = newTask();
+        details.setStatus(TaskStatus.IN_PROGRESS);
+        return taskService.updateTask(randomTaskId(), details, userId, null);
+    }
+
+    @Benchmark
+    public void createAndDeleteTask() {
+        taskService.deleteTask(taskService.createTask(newTask(), userId).getId(), userId);
+    }
+
+    @Benchmark
+    public List<TaskDto> getAllTasks() {
+        return taskService.getAllTasks(userId);
+    }
+
+    @Benchmark
+    public List<TaskDto> getTasksByStatus() {
+        return taskService.getTasksByStatus(userId, TaskStatus.IN_PROGRESS);
+    }
+
+    @Benchmark
+    public TaskPage getFirstPageByDueDate() {
+        return taskService.getTaskPage(userId, TaskSort.DUE_DATE, null, 50);
+    }
+
+    @Benchmark
+    public void streamAllTasks(Blackhole blackhole) {
+        taskService.streamTasks(userId, TaskSort.ID, blackhole::consume);
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanager.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the application jar as a child process against the load-test database and waits until it reports
+ * healthy. Rate limiting is switched off, since all traffic comes from one address.
+ */
+final class ApplicationProcess implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationProcess.class);
+
+    private final Process process;
+
+    private ApplicationProcess(Process process) {
+        this.process = process;
+    }
+
+    static ApplicationProcess start(String jdbcUrl, String dbUser, String dbPassword, LoadTestOptions options)
+            throws IOException, InterruptedException {
+        if (!Files.isRegularFile(options.appJar)) {
+            throw new IllegalStateException(options.appJar + " not found; build it with mvn package in backend/");
+        }
+        Path log = Path.of("target", "loadtest-app.log");
+        Files.createDirectories(log.getParent());
+
+        List<String> command = new ArrayList<>(List.of("java", "-jar", options.appJar.toString(),
+                "--server.port=" + options.appPort,
+                "--management.server.port=" + (options.appPort + 1),
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + dbUser,
+                "--spring.datasource.password=" + dbPassword,
+                // Only read under --spring.profiles.active=reactive
+                "--reactive.database.url=r2dbc:" + jdbcUrl.substring("jdbc:".length()).replaceFirst("\\?.*$", ""),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.taskmanager=INFO",
+                "--logging.level.org.springframework.security=INFO",
+                "--rate-limit.enabled=false"));
+        command.addAll(options.appArgs);
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(log.toFile());
+        // The connection comes from the spring.datasource arguments; POSTGRES_* only need to be present
+        builder.environment().putAll(Map.of(
+                "JWT_SECRET", Base64.getEncoder().encodeToString(secret),
+                "POSTGRES_DB", "loadtest",
+                "POSTGRES_USER", "loadtest",
+                "POSTGRES_PASSWORD", "loadtest"));
+
+        logger.info("Starting {} on port {}, logging to {}", options.appJar, options.appPort, log);
+        ApplicationProcess application = new ApplicationProcess(builder.start());
+        try {
+            application.awaitHealthy(options);
+        } catch (InterruptedException | RuntimeException e) {
+            application.close();
+            throw e;
+        }
+        return application;
+    }
+
+    String baseUrl(LoadTestOptions options) {
+        return "http://localhost:" + options.appPort + "/api";
+    }
+
+    private void awaitHealthy(LoadTestOptions options) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + (options.appPort + 1) + "/actuator/health"))
+                .timeout(Duration.ofSeconds(5)).build();
+        long deadline = System.nanoTime() + options.appStartTimeout.toNanos();
+        long start = System.nanoTime();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + process.exitValue()
+                        + "; see target/loadtest-app.log");
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    logger.info("Application healthy after {} ms", (System.nanoTime() - start) / 1_000_000);
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application not healthy after " + options.appStartTimeout);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
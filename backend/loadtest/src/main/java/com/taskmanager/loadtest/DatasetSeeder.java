@@ -0,0 +1,202 @@
+package com.taskmanager.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk-loads synthetic users and tasks with {@code COPY}, streamed from several connections at once. User
+ * {@code n} (from 1) owns the task ids {@code (n - 1) * tasksPerUser + 1} to {@code n * tasksPerUser}, so the
+ * traffic runner can address tasks without querying for them.
+ */
+final class DatasetSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    private static final String[] STATUSES = { "TODO", "IN_PROGRESS", "DONE" };
+    private static final String[] WORDS = { "review", "deploy", "invoice", "meeting", "report", "backup", "design",
+            "migrate", "client", "budget", "release", "audit", "roadmap", "hiring", "support", "refactor" };
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int WRITE_BUFFER = 1 << 16;
+
+    private final String jdbcUrl;
+    private final String dbUser;
+    private final String dbPassword;
+    private final LoadTestOptions options;
+
+    DatasetSeeder(String jdbcUrl, String dbUser, String dbPassword, LoadTestOptions options) {
+        this.jdbcUrl = jdbcUrl;
+        this.dbUser = dbUser;
+        this.dbPassword = dbPassword;
+        this.options = options;
+    }
+
+    void seed() throws Exception {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            if (options.reuseData && count(statement, "users") >= options.users) {
+                logger.info("Reusing the existing dataset of {} users", count(statement, "users"));
+                return;
+            }
+            statement.execute("TRUNCATE users, tasks, revoked_tokens, rate_limit_buckets RESTART IDENTITY");
+        }
+
+        long start = System.nanoTime();
+        // Every user gets the same hash, so the dataset costs one BCrypt round however large it is
+        String passwordHash = new BCryptPasswordEncoder(options.bcryptStrength).encode(options.password);
+        long total = (long) options.users * options.tasksPerUser;
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        copy("users (id, username, email, password, change_seq, sync_floor)", options.users, (id, out) -> {
+            out.append(Long.toString(id)).append("\tloadtest-user-").append(Long.toString(id))
+                    .append("\tloadtest-user-").append(Long.toString(id)).append("@example.com\t")
+                    .append(passwordHash).append('\t').append(Integer.toString(options.tasksPerUser))
+                    .append("\t0\n");
+        });
+
+        List<String> indexes = dropSecondaryIndexes();
+        copy("tasks (id, title, description, status, due_date, user_id, version, change_seq, deleted, "
+                + "reminder_due_date, reminder_stage)", total, (id, out) -> writeTask(id, now, out));
+        logger.info("Rebuilding {} task indexes", indexes.size());
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            for (String index : indexes) {
+                statement.execute(index);
+            }
+            statement.execute("SELECT setval(pg_get_serial_sequence('users', 'id'), " + options.users + ")");
+            statement.execute("SELECT setval('tasks_seq', " + (total + 50) + ")");
+            statement.execute("ANALYZE users");
+            statement.execute("ANALYZE tasks");
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        logger.info("Seeded {} users and {} tasks in {} s ({} rows/s)", options.users, total,
+                String.format("%.1f", seconds), Math.round((options.users + total) / seconds));
+    }
+
+    private void writeTask(long id, LocalDateTime now, Writer out) throws IOException {
+        SplittableRandom random = new SplittableRandom(id);
+        long userId = (id - 1) / options.tasksPerUser + 1;
+        long changeSeq = (id - 1) % options.tasksPerUser + 1;
+        // A fifth have no due date; the rest fall between 60 days ago and 90 days ahead
+        LocalDateTime dueDate = random.nextInt(5) == 0 ? null
+                : now.plusMinutes(random.nextInt(-60 * 24 * 60, 90 * 24 * 60));
+        boolean overdue = dueDate != null && dueDate.isBefore(now);
+        out.append(Long.toString(id)).append("\t").append(word(random)).append(' ').append(word(random))
+                .append(" #").append(Long.toString(changeSeq)).append('\t');
+        for (int i = random.nextInt(3, 12); i > 0; i--) {
+            out.append(word(random)).append(i > 1 ? " " : "\t");
+        }
+        out.append(STATUSES[random.nextInt(STATUSES.length)]).append('\t')
+                .append(dueDate != null ? TIMESTAMP.format(dueDate) : "\\N").append('\t')
+                .append(Long.toString(userId)).append("\t0\t").append(Long.toString(changeSeq)).append("\tf\t")
+                // Past due dates count as already reminded, so the reminder engine does not flood on startup
+                .append(overdue ? TIMESTAMP.format(dueDate) : "\\N").append('\t').append(overdue ? "2" : "0")
+                .append('\n');
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    /**
+     * Streams rows {@code 1..rows} into {@code target}, split into contiguous ranges across the seed threads.
+     */
+    private void copy(String target, long rows, RowWriter rowWriter) throws Exception {
+        int threads = (int) Math.max(1, Math.min(options.seedThreads, rows / 10_000));
+        long perThread = (rows + threads - 1) / threads;
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> parts = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long from = i * perThread + 1;
+                long to = Math.min(rows, (i + 1) * perThread);
+                parts.add(executor.submit(() -> {
+                    copyRange(target, from, to, rowWriter);
+                    return null;
+                }));
+            }
+            for (Future<?> part : parts) {
+                part.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Copied {} rows into {} in {} ms", rows, target.substring(0, target.indexOf(' ')),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void copyRange(String target, long from, long to, RowWriter rowWriter) throws SQLException, IOException {
+        try (Connection connection = connect()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET synchronous_commit = off");
+            }
+            PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                    "COPY " + target + " FROM STDIN", WRITE_BUFFER);
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), WRITE_BUFFER)) {
+                for (long id = from; id <= to; id++) {
+                    rowWriter.write(id, out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the non-constraint indexes on {@code tasks} and returns the statements that recreate them; building
+     * them once after the load is much cheaper than maintaining them row by row.
+     */
+    private List<String> dropSecondaryIndexes() throws SQLException {
+        List<String> definitions = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT indexname, indexdef FROM pg_indexes i "
+                    + "WHERE schemaname = current_schema() AND tablename = 'tasks' "
+                    + "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)")) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                    definitions.add(rs.getString(2));
+                }
+            }
+            for (String name : names) {
+                statement.execute("DROP INDEX " + name);
+            }
+        }
+        return definitions;
+    }
+
+    private static long count(Statement statement, String table) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT count(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(jdbcUrl, dbUser, dbPassword);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(long id, Writer out) throws IOException;
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskmanager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcomes of one endpoint. Latency runs from the request's scheduled start, not from when it was
+ * sent, so time spent queued behind a slow server counts against it.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, String outcome, boolean error) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * A request that was due but never sent, because every session was busy or {@code --max-in-flight} requests
+     * were already outstanding. Counted as an error: the client could not keep up the arrival rate.
+     */
+    void recordUnsent(String reason) {
+        requests.increment();
+        errors.increment();
+        outcomes.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    Map<String, Object> toMap(double seconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        long count = requests();
+        result.put("requests", count);
+        result.put("errors", errors());
+        result.put("errorRate", count > 0 ? (double) errors() / count : 0);
+        result.put("throughput", count / seconds);
+        Map<String, Object> millis = new LinkedHashMap<>();
+        millis.put("p50", percentileMillis(latency, 50));
+        millis.put("p90", percentileMillis(latency, 90));
+        millis.put("p99", percentileMillis(latency, 99));
+        millis.put("p99.9", percentileMillis(latency, 99.9));
+        millis.put("max", latency.getTotalCount() > 0 ? latency.getMaxValue() / 1000.0 : 0);
+        result.put("latencyMillis", millis);
+        Map<String, Long> byOutcome = new TreeMap<>();
+        outcomes.forEach((outcome, n) -> byOutcome.put(outcome, n.sum()));
+        result.put("outcomes", byOutcome);
+        return result;
+    }
+
+    static double percentileMillis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() > 0 ? histogram.getValueAtPercentile(percentile) / 1000.0 : 0;
+    }
+}
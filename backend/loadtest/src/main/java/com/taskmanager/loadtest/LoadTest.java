@@ -0,0 +1,123 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Seeds a synthetic dataset, starts the application against it and replays a weighted traffic mix at a fixed
+ * arrival rate, then reports latency percentiles, throughput and error rates per endpoint.
+ *
+ * <p>Without {@code --jdbc-url} the database is an embedded PostgreSQL under {@code target/loadtest-pg}; without
+ * {@code --base-url} the application jar is started on {@code --app-port}. See {@link LoadTestOptions}.
+ */
+public final class LoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        EmbeddedPostgres embedded = null;
+        ApplicationProcess application = null;
+        try {
+            String jdbcUrl = options.jdbcUrl;
+            if (jdbcUrl == null) {
+                logger.info("Starting embedded PostgreSQL on port {} in {}", options.dbPort, options.dbDir);
+                embedded = EmbeddedPostgres.builder()
+                        .setPort(options.dbPort)
+                        .setDataDirectory(options.dbDir)
+                        .setCleanDataDirectory(!options.reuseData)
+                        .setServerConfig("max_connections", "300")
+                        .setServerConfig("max_wal_size", "4GB")
+                        .start();
+                jdbcUrl = embedded.getJdbcUrl(options.dbUser, "postgres");
+            }
+
+            Flyway.configure()
+                    .dataSource(jdbcUrl, options.dbUser, options.dbPassword)
+                    .locations("filesystem:" + options.migrations)
+                    .failOnMissingLocations(true)
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0")
+                    .load()
+                    .migrate();
+            new DatasetSeeder(jdbcUrl, options.dbUser, options.dbPassword, options).seed();
+
+            String baseUrl = options.baseUrl;
+            if (baseUrl == null) {
+                application = ApplicationProcess.start(jdbcUrl, options.dbUser, options.dbPassword, options);
+                baseUrl = application.baseUrl(options);
+            }
+
+            Map<Operation, EndpointStats> stats = new TrafficRunner(options, baseUrl).run();
+            report(stats, options);
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    private static void report(Map<Operation, EndpointStats> stats, LoadTestOptions options) throws IOException {
+        double seconds = options.duration.toMillis() / 1000.0;
+        StringBuilder table = new StringBuilder(String.format("%n%-28s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "err%", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+                "max ms"));
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            if (endpoint.requests() == 0) {
+                continue;
+            }
+            table.append(row(entry.getKey().endpoint(), endpoint.requests(), endpoint.errors(), endpoint.latency(),
+                    seconds));
+            endpoints.put(entry.getKey().endpoint(), endpoint.toMap(seconds));
+            total.add(endpoint.latency());
+            requests += endpoint.requests();
+            errors += endpoint.errors();
+        }
+        table.append(row("total", requests, errors, total, seconds));
+        logger.info("Results over {} s at a target of {} requests/s:{}", seconds, options.rate, table);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("targetRate", options.rate);
+        result.put("arrivals", options.poisson ? "poisson" : "uniform");
+        result.put("durationSeconds", seconds);
+        result.put("users", options.users);
+        result.put("tasksPerUser", options.tasksPerUser);
+        result.put("sessions", options.sessions);
+        result.put("throughput", requests / seconds);
+        result.put("errorRate", requests > 0 ? (double) errors / requests : 0);
+        result.put("endpoints", endpoints);
+        Files.createDirectories(options.report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report.toFile(), result);
+        logger.info("Wrote {}", options.report);
+    }
+
+    private static String row(String name, long requests, long errors, Histogram latency, double seconds) {
+        return String.format("%-28s %9d %7d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, requests, errors,
+                requests > 0 ? 100.0 * errors / requests : 0, requests / seconds,
+                EndpointStats.percentileMillis(latency, 50), EndpointStats.percentileMillis(latency, 90),
+                EndpointStats.percentileMillis(latency, 99), EndpointStats.percentileMillis(latency, 99.9),
+                latency.getTotalCount() > 0 ? latency.getMaxValue() / 1000.0 : 0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.taskmanager.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value}. Durations take an {@code ms}, {@code s}, {@code m} or
+ * {@code h} suffix.
+ */
+final class LoadTestOptions {
+
+    // Dataset
+    int users = 100_000;
+    int tasksPerUser = 20;
+    int seedThreads = Runtime.getRuntime().availableProcessors();
+    String password = "LoadTest1@";
+    int bcryptStrength = 10;
+    boolean reuseData;
+
+    // Database: embedded unless a JDBC URL is given
+    String jdbcUrl;
+    String dbUser = "postgres";
+    String dbPassword = "postgres";
+    int dbPort = 15432;
+    Path dbDir = Path.of("target", "loadtest-pg");
+    Path migrations = Path.of("..", "src", "main", "resources", "db", "migration");
+
+    // Application: started from the jar unless a base URL is given
+    String baseUrl;
+    Path appJar = Path.of("..", "target", "task-manager-0.0.1-SNAPSHOT.jar");
+    int appPort = 18080;
+    List<String> appArgs = new ArrayList<>();
+    Duration appStartTimeout = Duration.ofMinutes(3);
+
+    // Traffic
+    double rate = 200;
+    boolean poisson = true;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(60);
+    int sessions = 200;
+    int maxInFlight = 2_000;
+    Duration requestTimeout = Duration.ofSeconds(30);
+    String mix = "login=2,refresh=2,logout=1,list=30,get=25,create=12,update=12,delete=4,status=12";
+    Path report = Path.of("target", "loadtest-result.json");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+
+        LoadTestOptions options = new LoadTestOptions();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            switch (entry.getKey()) {
+                case "users" -> options.users = Integer.parseInt(value);
+                case "tasks-per-user" -> options.tasksPerUser = Integer.parseInt(value);
+                case "seed-threads" -> options.seedThreads = Integer.parseInt(value);
+                case "password" -> options.password = value;
+                case "bcrypt-strength" -> options.bcryptStrength = Integer.parseInt(value);
+                case "reuse-data" -> options.reuseData = Boolean.parseBoolean(value);
+                case "jdbc-url" -> options.jdbcUrl = value;
+                case "db-user" -> options.dbUser = value;
+                case "db-password" -> options.dbPassword = value;
+                case "db-port" -> options.dbPort = Integer.parseInt(value);
+                case "db-dir" -> options.dbDir = Path.of(value);
+                case "migrations" -> options.migrations = Path.of(value);
+                case "base-url" -> options.baseUrl = value;
+                case "app-jar" -> options.appJar = Path.of(value);
+                case "app-port" -> options.appPort = Integer.parseInt(value);
+                case "app-args" -> options.appArgs = Arrays.asList(value.trim().split("\\s+"));
+                case "app-start-timeout" -> options.appStartTimeout = duration(value);
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "arrivals" -> options.poisson = arrivals(value);
+                case "warmup" -> options.warmup = duration(value);
+                case "duration" -> options.duration = duration(value);
+                case "sessions" -> options.sessions = Integer.parseInt(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "request-timeout" -> options.requestTimeout = duration(value);
+                case "mix" -> options.mix = value;
+                case "report" -> options.report = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + entry.getKey());
+            }
+        }
+        if (options.sessions > options.users) {
+            throw new IllegalArgumentException("--sessions cannot exceed --users");
+        }
+        return options;
+    }
+
+    private static boolean arrivals(String value) {
+        switch (value) {
+            case "poisson":
+                return true;
+            case "uniform":
+                return false;
+            default:
+                throw new IllegalArgumentException("--arrivals must be poisson or uniform");
+        }
+    }
+
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        char unit = value.charAt(value.length() - 1);
+        if (Character.isDigit(unit)) {
+            return Duration.ofSeconds(Long.parseLong(value));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        switch (unit) {
+            case 's':
+                return Duration.ofSeconds(amount);
+            case 'm':
+                return Duration.ofMinutes(amount);
+            case 'h':
+                return Duration.ofHours(amount);
+            default:
+                throw new IllegalArgumentException("Unknown duration unit in " + value);
+        }
+    }
+}
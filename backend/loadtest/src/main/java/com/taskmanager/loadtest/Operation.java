@@ -0,0 +1,56 @@
+package com.taskmanager.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The endpoints the traffic mix draws from, named as in {@code --mix}.
+ */
+enum Operation {
+    LOGIN("POST /auth/login"),
+    REFRESH("POST /auth/refresh"),
+    LOGOUT("POST /auth/logout"),
+    LIST("GET /tasks/page"),
+    GET("GET /tasks/{id}"),
+    CREATE("POST /tasks"),
+    UPDATE("PUT /tasks/{id}"),
+    DELETE("DELETE /tasks/{id}"),
+    STATUS("GET /tasks/status/{status}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parses {@code name=weight,...}; operations left out get no traffic.
+     */
+    static Map<Operation, Double> parseMix(String mix) {
+        Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid --mix entry: " + part);
+            }
+            double weight = Double.parseDouble(pair[1]);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative --mix weight: " + part);
+            }
+            weights.put(valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+        }
+        if (weights.values().stream().mapToDouble(Double::doubleValue).sum() <= 0) {
+            throw new IllegalArgumentException("--mix has no traffic");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,360 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the traffic mix as an open model: requests are scheduled at the configured arrival rate whether or not
+ * earlier ones have completed, like independent users would send them, so a slow server builds a queue instead
+ * of slowing the load down. Each request runs as one of a fixed set of logged-in sessions, and a session only
+ * has one request outstanding at a time. A session that logged out logs back in on its next turn.
+ */
+final class TrafficRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRunner.class);
+
+    private static final String[] STATUSES = { "TODO", "IN_PROGRESS", "DONE" };
+    private static final int SESSION_PICK_ATTEMPTS = 16;
+    private static final int LOGIN_CONCURRENCY = 16;
+
+    private final LoadTestOptions options;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Operation[] operations;
+    private final double[] cumulativeWeights;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Session[] sessions;
+    private final Semaphore inFlight;
+    private long unsent;
+
+    TrafficRunner(LoadTestOptions options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10)).build();
+
+        Map<Operation, Double> mix = Operation.parseMix(options.mix);
+        double total = mix.values().stream().mapToDouble(Double::doubleValue).sum();
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new double[operations.length];
+        double cumulative = 0;
+        for (int i = 0; i < operations.length; i++) {
+            cumulative += mix.get(operations[i]) / total;
+            cumulativeWeights[i] = cumulative;
+            stats.put(operations[i], new EndpointStats());
+        }
+        stats.putIfAbsent(Operation.LOGIN, new EndpointStats()); // logged-out sessions log back in
+
+        // Sessions are spread over the whole dataset rather than its first users
+        this.sessions = new Session[options.sessions];
+        long stride = options.users / options.sessions;
+        for (int i = 0; i < sessions.length; i++) {
+            sessions[i] = new Session(1 + i * stride, options.tasksPerUser);
+        }
+        this.inFlight = new Semaphore(options.maxInFlight);
+    }
+
+    Map<Operation, EndpointStats> run() throws InterruptedException {
+        logIn();
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate);
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup.toNanos();
+        long end = measureFrom + options.duration.toNanos();
+        logger.info("Sending {} requests/s for {} (+{} warm-up) from {} sessions", options.rate, options.duration,
+                options.warmup, sessions.length);
+
+        SplittableRandom random = new SplittableRandom();
+        long intended = start;
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = intended >= measureFrom;
+            Operation operation = pick(random);
+            Session session = claimSession(random);
+            if (session == null) {
+                unsent(operation, "no-idle-session", measured);
+            } else if (!inFlight.tryAcquire()) {
+                session.release();
+                unsent(operation, "max-in-flight", measured);
+            } else {
+                send(session.loggedIn() ? operation : Operation.LOGIN, session, random, intended, measured);
+            }
+            intended += options.poisson ? (long) (-Math.log(1 - random.nextDouble()) * intervalNanos)
+                    : intervalNanos;
+        }
+
+        if (unsent > 0) {
+            logger.warn("{} requests were due but not sent; raise --sessions or --max-in-flight", unsent);
+        }
+        long drainNanos = options.requestTimeout.toNanos() + TimeUnit.SECONDS.toNanos(5);
+        if (!inFlight.tryAcquire(options.maxInFlight, drainNanos, TimeUnit.NANOSECONDS)) {
+            logger.warn("{} requests still outstanding at the end of the run",
+                    options.maxInFlight - inFlight.availablePermits());
+        }
+        return stats;
+    }
+
+    private void logIn() throws InterruptedException {
+        logger.info("Logging in {} sessions", sessions.length);
+        Semaphore permits = new Semaphore(LOGIN_CONCURRENCY);
+        List<CompletableFuture<?>> logins = new ArrayList<>();
+        for (Session session : sessions) {
+            permits.acquire();
+            logins.add(client.sendAsync(login(session), HttpResponse.BodyHandlers.ofString())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Login as " + session.username() + " failed with "
+                                    + response.statusCode() + ": " + response.body());
+                        }
+                        session.updateTokens(json(response.body()));
+                    })
+                    .whenComplete((ignored, e) -> permits.release()));
+        }
+        try {
+            CompletableFuture.allOf(logins.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Could not log in the load-test sessions", e.getCause());
+        }
+    }
+
+    private void unsent(Operation operation, String reason, boolean measured) {
+        if (measured) {
+            stats.get(operation).recordUnsent(reason);
+            unsent++;
+        }
+    }
+
+    private Operation pick(SplittableRandom random) {
+        double r = random.nextDouble();
+        for (int i = 0; i < operations.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private Session claimSession(SplittableRandom random) {
+        for (int i = 0; i < SESSION_PICK_ATTEMPTS; i++) {
+            Session session = sessions[random.nextInt(sessions.length)];
+            if (session.claim()) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private void send(Operation operation, Session session, SplittableRandom random, long intended,
+            boolean measured) {
+        Long taskId = null;
+        HttpRequest request;
+        switch (operation) {
+            case LOGIN -> request = login(session);
+            case REFRESH -> request = post("/auth/refresh", null, Map.of("refreshToken", session.refreshToken));
+            case LOGOUT -> request = post("/auth/logout", session.token, Map.of());
+            case LIST -> request = get("/tasks/page?limit=50", session.token);
+            case GET -> request = get("/tasks/" + session.liveTaskId(random), session.token);
+            case CREATE -> request = post("/tasks", session.token, taskBody(random));
+            case UPDATE -> request = authorized("/tasks/" + session.liveTaskId(random), session.token)
+                    .PUT(body(taskBody(random))).build();
+            case DELETE -> {
+                taskId = session.taskToDelete(random);
+                request = authorized("/tasks/" + taskId, session.token).DELETE().build();
+            }
+            case STATUS -> request = get("/tasks/status/" + STATUSES[random.nextInt(STATUSES.length)],
+                    session.token);
+            default -> throw new IllegalStateException("Unhandled operation " + operation);
+        }
+
+        Long deletedId = taskId;
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            try {
+                long latency = System.nanoTime() - intended;
+                String outcome;
+                boolean error;
+                if (failure != null) {
+                    Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                    outcome = cause instanceof HttpTimeoutException ? "timeout" : "io-error";
+                    error = true;
+                } else {
+                    outcome = Integer.toString(response.statusCode());
+                    error = response.statusCode() >= 400;
+                    if (!error) {
+                        onSuccess(operation, session, response.body(), deletedId);
+                    }
+                }
+                if (measured) {
+                    stats.get(operation).record(latency, outcome, error);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Could not process the {} response", operation.endpoint(), e);
+            } finally {
+                session.release();
+                inFlight.release();
+            }
+        });
+    }
+
+    private void onSuccess(Operation operation, Session session, String body, Long deletedId) {
+        switch (operation) {
+            case LOGIN, REFRESH -> session.updateTokens(json(body));
+            case LOGOUT -> session.token = null;
+            case CREATE -> session.created.add(json(body).get("id").asLong());
+            case DELETE -> session.deleted.add(deletedId);
+            default -> {
+            }
+        }
+    }
+
+    private Map<String, Object> taskBody(SplittableRandom random) {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("title", "Load test task " + random.nextInt(1_000_000));
+        task.put("description", "Created by the load test");
+        task.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+        task.put("dueDate", LocalDateTime.now().plusDays(random.nextInt(1, 60)).withNano(0).toString());
+        return task;
+    }
+
+    private HttpRequest login(Session session) {
+        return post("/auth/login", null, Map.of("username", session.username(), "password", options.password));
+    }
+
+    private HttpRequest get(String path, String token) {
+        return authorized(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Map<String, ?> body) {
+        return authorized(path, token).POST(body(body)).build();
+    }
+
+    private HttpRequest.Builder authorized(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(options.requestTimeout)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher body(Map<String, ?> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode json(String body) {
+        try {
+            return mapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * One seeded user's login. Its fields are only touched by the request that holds the claim, and the claim's
+     * release publishes them to the next one.
+     */
+    private static final class Session {
+
+        private final long userId;
+        private final long firstTaskId;
+        private final int seededTasks;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private final List<Long> created = new ArrayList<>();
+        private final Set<Long> deleted = new HashSet<>();
+        private String token;
+        private String refreshToken;
+
+        Session(long userId, int seededTasks) {
+            this.userId = userId;
+            this.firstTaskId = (userId - 1) * seededTasks + 1;
+            this.seededTasks = seededTasks;
+        }
+
+        String username() {
+            return "loadtest-user-" + userId;
+        }
+
+        boolean claim() {
+            return busy.compareAndSet(false, true);
+        }
+
+        void release() {
+            busy.set(false);
+        }
+
+        boolean loggedIn() {
+            return token != null;
+        }
+
+        void updateTokens(JsonNode response) {
+            token = response.get("token").asText();
+            refreshToken = response.get("refreshToken").asText();
+        }
+
+        /**
+         * A task this session has not deleted, usually a seeded one.
+         */
+        long liveTaskId(SplittableRandom random) {
+            if (!created.isEmpty() && random.nextInt(5) == 0) {
+                return created.get(random.nextInt(created.size()));
+            }
+            long id = firstTaskId;
+            for (int i = 0; i < SESSION_PICK_ATTEMPTS; i++) {
+                id = firstTaskId + random.nextInt(seededTasks);
+                if (!deleted.contains(id)) {
+                    break;
+                }
+            }
+            return id;
+        }
+
+        /**
+         * Prefers the tasks this session created, so the seeded dataset stays intact as long as possible.
+         */
+        long taskToDelete(SplittableRandom random) {
+            if (!created.isEmpty()) {
+                int index = random.nextInt(created.size());
+                long id = created.get(index);
+                created.set(index, created.get(created.size() - 1));
+                created.remove(created.size() - 1);
+                return id;
+            }
+            return liveTaskId(random);
+        }
+    }
+}
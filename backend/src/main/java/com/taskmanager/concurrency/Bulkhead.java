@@ -0,0 +1,55 @@
+package com.taskmanager.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many callers may run a class of blocking work at once. Callers beyond the limit queue fairly for up to
+ * {@code maxWait} and are then rejected with 503. Time spent queuing is recorded as {@code bulkhead.wait}.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Timer waitTimer;
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.waitTimer = Timer.builder("bulkhead.wait").tag("bulkhead", name).publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.available", permits, Semaphore::availablePermits).tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", permits, Semaphore::getQueueLength).tag("bulkhead", name)
+                .register(meterRegistry);
+    }
+
+    public void acquire() {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted waiting for " + name, e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent " + name + " calls");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
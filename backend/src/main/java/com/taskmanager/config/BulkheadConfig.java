@@ -0,0 +1,60 @@
+package com.taskmanager.config;
+
+import com.taskmanager.concurrency.Bulkhead;
+import com.taskmanager.concurrency.BulkheadDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Bulkhead for database work. Enabled by the "virtual" profile, where request handling runs on virtual threads
+ * and nothing else limits how many callers reach the connection pool at once. Password hashing is bounded
+ * separately by {@link com.taskmanager.security.PasswordHashingExecutor}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency.bulkhead.enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadConfig.class);
+
+    public BulkheadConfig(Environment environment) {
+        // Boot ignores spring.threads.virtual.enabled below Java 21 without a word
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && Runtime.version().feature() < 21) {
+            logger.warn("Virtual threads need Java 21 or later, this is Java {}; requests stay on platform threads."
+                    + " Build with JAVA_VERSION=21 to use the virtual profile", Runtime.version().feature());
+        }
+    }
+
+    @Bean
+    public Bulkhead databaseBulkhead(Environment environment, MeterRegistry meterRegistry) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        return new Bulkhead("database",
+                environment.getProperty("concurrency.bulkhead.database.max-concurrent", Integer.class, poolSize),
+                environment.getProperty("concurrency.bulkhead.database.max-wait", Duration.class,
+                        Duration.ofSeconds(5)),
+                meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<Bulkhead> databaseBulkhead) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, databaseBulkhead.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanager.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * R2DBC connection pool for the reactive profile. The pool is deliberately not a bean: Boot's JDBC auto-configuration
+ * backs off when it finds an R2DBC {@code ConnectionFactory}, and JPA, Flyway and login still need the DataSource.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDatabaseConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveDatabaseConfig(@Value("${reactive.database.url}") String url,
+            @Value("${reactive.database.username}") String username,
+            @Value("${reactive.database.password}") String password,
+            @Value("${reactive.database.pool-size:20}") int poolSize,
+            @Value("${reactive.database.acquire-timeout:5s}") Duration acquireTimeout) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("r2dbc")
+                .initialSize(Math.min(poolSize, 10))
+                .maxSize(poolSize)
+                .maxAcquireTime(acquireTimeout)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskmanager.config;
+
+import com.taskmanager.security.ClientAddress;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * WebFlux settings for the reactive profile, served by Netty. Controller methods that return plain values rather than
+ * {@code Mono}/{@code Flux} (the shared {@link com.taskmanager.controller.AuthController}, which authenticates
+ * through JPA and BCrypt) are invoked on a bounded pool so they never block the event loop.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer, DisposableBean {
+
+    private final ThreadPoolTaskExecutor blockingExecutor = new ThreadPoolTaskExecutor();
+
+    public ReactiveWebConfig(@Value("${reactive.blocking.threads:0}") int threads,
+            @Value("${reactive.blocking.queue-capacity:1000}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : 2 * Runtime.getRuntime().availableProcessors();
+        blockingExecutor.setCorePoolSize(poolSize);
+        blockingExecutor.setMaxPoolSize(poolSize);
+        blockingExecutor.setQueueCapacity(queueCapacity);
+        blockingExecutor.setThreadNamePrefix("blocking-handler-");
+        blockingExecutor.initialize();
+    }
+
+    // Tomcat is on the classpath for servlet mode and would otherwise be picked first
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ClientAddress.ReactiveResolver());
+    }
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(blockingExecutor);
+    }
+
+    @Override
+    public void destroy() {
+        blockingExecutor.shutdown();
+    }
+}
@@ -1,18 +1,25 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.UserDto;
 import com.taskmanager.model.User;
+import com.taskmanager.security.AuthenticatedUser;
+import com.taskmanager.security.ClientAddress;
 import com.taskmanager.security.JwtTokenUtil;
+import com.taskmanager.security.LoginAttemptService;
+import com.taskmanager.security.TokenClaims;
+import com.taskmanager.service.UserAvailabilityIndex;
 import com.taskmanager.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/auth")
@@ -22,29 +29,41 @@ public class AuthController {
     private final JwtTokenUtil jwtTokenUtil;
     private final UserService userService;
     private final UserDetailsService userDetailsService;
+    private final LoginAttemptService loginAttemptService;
+    private final UserAvailabilityIndex userAvailabilityIndex;
 
     public AuthController(AuthenticationManager authenticationManager, JwtTokenUtil jwtTokenUtil,
-            UserService userService, UserDetailsService userDetailsService) {
+            UserService userService, UserDetailsService userDetailsService,
+            LoginAttemptService loginAttemptService, UserAvailabilityIndex userAvailabilityIndex) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenUtil = jwtTokenUtil;
         this.userService = userService;
         this.userDetailsService = userDetailsService;
+        this.loginAttemptService = loginAttemptService;
+        this.userAvailabilityIndex = userAvailabilityIndex;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+    public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest, ClientAddress client) {
+        loginAttemptService.checkAllowed(loginRequest.getUsername(), client);
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+        } catch (BadCredentialsException e) {
+            loginAttemptService.recordFailure(loginRequest.getUsername(), client);
+            throw e;
+        }
+        loginAttemptService.recordSuccess(loginRequest.getUsername(), client);
 
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        AuthenticatedUser userDetails = (AuthenticatedUser) authentication.getPrincipal();
         String token = jwtTokenUtil.generateToken(userDetails);
         String refreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
-        User user = userService.findByUsername(userDetails.getUsername());
 
         Map<String, Object> response = new HashMap<>();
         response.put("token", token);
         response.put("refreshToken", refreshToken);
-        response.put("user", user);
+        response.put("user", toUserDto(userDetails));
 
         return ResponseEntity.ok(response);
     }
@@ -53,10 +72,10 @@ public class AuthController {
     public ResponseEntity<?> refreshToken(@RequestBody RefreshTokenRequest refreshRequest) {
         String refreshToken = refreshRequest.getRefreshToken();
 
-        if (refreshToken != null && jwtTokenUtil.validateToken(refreshToken)) {
-            String username = jwtTokenUtil.getUsernameFromToken(refreshToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            User user = userService.findByUsername(username);
+        Optional<TokenClaims> claims = refreshToken != null ? jwtTokenUtil.validate(refreshToken) : Optional.empty();
+        if (claims.isPresent()) {
+            String username = claims.get().getSubject();
+            AuthenticatedUser userDetails = (AuthenticatedUser) userDetailsService.loadUserByUsername(username);
 
             String newToken = jwtTokenUtil.generateToken(userDetails);
             String newRefreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
@@ -64,7 +83,7 @@ public class AuthController {
             Map<String, Object> response = new HashMap<>();
             response.put("token", newToken);
             response.put("refreshToken", newRefreshToken);
-            response.put("user", user);
+            response.put("user", toUserDto(userDetails));
 
             return ResponseEntity.ok(response);
         }
@@ -81,22 +100,41 @@ public class AuthController {
 
         User registeredUser = userService.registerUser(user);
 
-        // Authenticate the user after registration
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(registerRequest.getUsername(), registerRequest.getPassword()));
-
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        // The password was hashed a moment ago; verifying it again would only repeat the BCrypt work
+        AuthenticatedUser userDetails = AuthenticatedUser.from(registeredUser);
         String token = jwtTokenUtil.generateToken(userDetails);
         String refreshToken = jwtTokenUtil.generateRefreshToken(userDetails);
 
         Map<String, Object> response = new HashMap<>();
         response.put("token", token);
         response.put("refreshToken", refreshToken);
-        response.put("user", registeredUser);
+        response.put("user", UserDto.from(registeredUser));
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Signup-form check for a username and/or email. Served from memory when a name is clearly free; see
+     * {@link UserAvailabilityIndex}.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<?> checkAvailability(@RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        if (username == null && email == null) {
+            return ResponseEntity.badRequest().body("Give a username or an email");
+        }
+        Map<String, Object> response = new HashMap<>();
+        if (username != null) {
+            response.put("username", username);
+            response.put("usernameAvailable", userAvailabilityIndex.isUsernameAvailable(username));
+        }
+        if (email != null) {
+            response.put("email", email);
+            response.put("emailAvailable", userAvailabilityIndex.isEmailAvailable(email));
+        }
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<?> logout(@RequestHeader("Authorization") String authHeader) {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
@@ -106,6 +144,10 @@ public class AuthController {
         }
         return ResponseEntity.badRequest().body("Invalid token");
     }
+
+    private UserDto toUserDto(AuthenticatedUser user) {
+        return new UserDto(user.getId(), user.getUsername(), user.getEmail());
+    }
 }
 
 class LoginRequest {
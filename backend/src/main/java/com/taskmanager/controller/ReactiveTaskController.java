@@ -0,0 +1,87 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.model.TaskSort;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.security.AuthenticatedUser;
+import com.taskmanager.service.ReactiveTaskService;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The core task endpoints on WebFlux and R2DBC, served in place of {@link TaskController} by the reactive profile.
+ * Lists are written as rows arrive from the database rather than collected first.
+ */
+@RestController
+@RequestMapping("/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    public ReactiveTaskController(ReactiveTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @PostMapping
+    public Mono<TaskDto> createTask(@Valid @RequestBody TaskRequest task,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.createTask(task, user.getId());
+    }
+
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<TaskDto> getAllTasks(@RequestParam(defaultValue = "ID") TaskSort sort,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.getAllTasks(user.getId(), sort);
+    }
+
+    @GetMapping("/page")
+    public Mono<TaskPage> getTaskPage(@RequestParam(defaultValue = "ID") TaskSort sort,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.getTaskPage(user.getId(), sort, cursor, limit);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskDto> streamTasks(@RequestParam(defaultValue = "ID") TaskSort sort,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.getAllTasks(user.getId(), sort);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskDto>> getTaskById(@PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        // If-None-Match is checked against the ETag by the response handler, which then answers 304
+        return taskService.getTaskById(id, user.getId())
+                .map(task -> ResponseEntity.ok().eTag(TaskController.etag(task)).body(task));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<TaskDto>> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequest taskDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.updateTask(id, taskDetails, user.getId(), TaskController.expectedVersion(ifMatch))
+                .map(task -> ResponseEntity.ok().eTag(TaskController.etag(task)).body(task));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.deleteTask(id, user.getId()).then(Mono.fromSupplier(() -> ResponseEntity.ok().build()));
+    }
+
+    @GetMapping("/status/{status}")
+    public Flux<TaskDto> getTasksByStatus(@PathVariable TaskStatus status,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.getTasksByStatus(user.getId(), status);
+    }
+}
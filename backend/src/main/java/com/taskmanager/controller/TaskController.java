@@ -1,54 +1,223 @@
 package com.taskmanager.controller;
 
-import com.taskmanager.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanager.dto.TaskBatchOperation;
+import com.taskmanager.dto.TaskBatchResult;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskImportResult;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.dto.TaskSearchCriteria;
+import com.taskmanager.dto.TaskSearchResult;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.dto.TaskSyncResponse;
+import com.taskmanager.model.TaskSort;
 import com.taskmanager.model.TaskStatus;
+import com.taskmanager.security.AuthenticatedUser;
+import com.taskmanager.service.TaskChangeFeed;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.service.TaskTransferService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskTransferService taskTransferService;
+    private final ObjectWriter taskWriter;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskChangeFeed taskChangeFeed,
+            TaskTransferService taskTransferService, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.taskChangeFeed = taskChangeFeed;
+        this.taskTransferService = taskTransferService;
+        this.taskWriter = objectMapper.writerFor(TaskDto.class);
     }
 
     @PostMapping
-    public ResponseEntity<Task> createTask(@RequestBody Task task, Authentication authentication) {
-        return ResponseEntity.ok(taskService.createTask(task, authentication.getName()));
+    public ResponseEntity<TaskDto> createTask(@Valid @RequestBody TaskRequest task,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskService.createTask(task, user.getId()));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskBatchResult>> applyBatch(@RequestBody List<TaskBatchOperation> operations,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskService.applyBatch(operations, user.getId()));
     }
 
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks(Authentication authentication) {
-        return ResponseEntity.ok(taskService.getAllTasks(authentication.getName()));
+    public ResponseEntity<List<TaskDto>> getAllTasks(@AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest request) {
+        String etag = taskService.getAllTasksEtag(user.getId());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(taskService.getAllTasks(user.getId()));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<TaskPage> getTaskPage(@RequestParam(defaultValue = "ID") TaskSort sort,
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskService.getTaskPage(user.getId(), sort, cursor, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResult> searchTasks(@ModelAttribute TaskSearchCriteria criteria,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskService.searchTasks(user.getId(), criteria));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getStats(@RequestParam(required = false) TaskStats.Interval interval,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskService.getStats(user.getId(), interval, from, to));
+    }
+
+    @GetMapping("/sync")
+    public ResponseEntity<TaskSyncResponse> syncTasks(@RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) Integer limit, @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(taskService.syncTasks(user.getId(), since, limit));
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskChangeFeed.subscribe(user.getId(), lastEventId);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasks(@RequestParam(defaultValue = "ID") TaskSort sort,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.getId();
+        StreamingResponseBody body = out -> taskService.streamTasks(userId, sort, task -> {
+            try {
+                out.write(taskWriter.writeValueAsBytes(task));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "NDJSON") TaskTransferService.Format format,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        Long userId = user.getId();
+        StreamingResponseBody body = out -> taskTransferService.exportTasks(userId, format, out);
+        String filename = "tasks." + format.name().toLowerCase(Locale.ROOT);
+        return ResponseEntity.ok().contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build()
+                        .toString())
+                .body(body);
+    }
+
+    // The body is read as a raw stream rather than bound, so uploads of any size are parsed record by record.
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<TaskImportResult> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request, @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+        TaskTransferService.Format format = TaskTransferService.TEXT_CSV.isCompatibleWith(contentType)
+                ? TaskTransferService.Format.CSV : TaskTransferService.Format.NDJSON;
+        return ResponseEntity.ok(taskTransferService.importTasks(user.getId(), format, request.getInputStream()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id, Authentication authentication) {
-        return ResponseEntity.ok(taskService.getTaskById(id, authentication.getName()));
+    public ResponseEntity<TaskDto> getTaskById(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user,
+            WebRequest request) {
+        TaskDto task = taskService.getTaskById(id, user.getId());
+        if (request.checkNotModified(etag(task))) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag(task)).body(task);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable Long id, @RequestBody Task taskDetails,
-            Authentication authentication) {
-        return ResponseEntity.ok(taskService.updateTask(id, taskDetails, authentication.getName()));
+    public ResponseEntity<TaskDto> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequest taskDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskDto task = taskService.updateTask(id, taskDetails, user.getId(), expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(etag(task)).body(task);
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskDto> patchTask(@PathVariable Long id, @RequestBody TaskPatch patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        TaskDto task = taskService.patchTask(id, patch, user.getId(), expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(etag(task)).body(task);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteTask(@PathVariable Long id, Authentication authentication) {
-        taskService.deleteTask(id, authentication.getName());
+    public ResponseEntity<?> deleteTask(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user) {
+        taskService.deleteTask(id, user.getId());
         return ResponseEntity.ok().build();
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Task>> getTasksByStatus(@PathVariable TaskStatus status, Authentication authentication) {
-        return ResponseEntity.ok(taskService.getTasksByStatus(authentication.getName(), status));
+    public ResponseEntity<List<TaskDto>> getTasksByStatus(@PathVariable TaskStatus status,
+            @AuthenticationPrincipal AuthenticatedUser user, WebRequest request) {
+        String etag = taskService.getTasksByStatusEtag(user.getId(), status);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(taskService.getTasksByStatus(user.getId(), status));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleVersionConflict(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("Task was modified concurrently");
+    }
+
+    // Weak like the list ETags, so Tomcat still compresses the response.
+    static String etag(TaskDto task) {
+        return "W/\"" + task.getVersion() + "\"";
+    }
+
+    // A task's ETag is its version; "*" or no header means no precondition.
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.parseLong(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not match the task");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,201 @@
+package com.taskmanager.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.security.AuthenticatedUser;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the pool for each new connection. Read-only transactions go round-robin to the replicas that passed their
+ * last health check with at most {@code max-lag} replication lag; everything else goes to the primary. A user who
+ * has just committed a write reads from the primary for the {@code read-your-writes} window, so they see their own
+ * change before the replicas catch up. With no replica available, reads fall back to the primary.
+ */
+public class ReplicaRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final int checkTimeoutSeconds;
+    private final Cache<Long, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter writes;
+    private final Counter reads;
+    private final Counter pinnedReads;
+    private final Counter fallbackReads;
+    private volatile List<Replica> available = List.of();
+
+    public ReplicaRouter(HikariDataSource primary, List<HikariDataSource> replicas, String lagQuery, Duration maxLag,
+            Duration readYourWrites, Duration checkTimeout, int maxTrackedWriters, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+        this.checkTimeoutSeconds = (int) Math.max(1, checkTimeout.toSeconds());
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(readYourWrites).maximumSize(maxTrackedWriters)
+                .build();
+        this.writes = routed(meterRegistry, "primary", "write");
+        this.reads = routed(meterRegistry, "replica", "read");
+        this.pinnedReads = routed(meterRegistry, "primary", "read-your-writes");
+        this.fallbackReads = routed(meterRegistry, "primary", "fallback");
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis / 1000.0).baseUnit("seconds")
+                    .tag("replica", replica.name()).register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name()).register(meterRegistry);
+        }
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routed.connections").tag("target", target).tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            recordWriteOnCommit();
+            return primary.getConnection();
+        }
+        Long userId = currentUserId();
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            pinnedReads.increment();
+            return primary.getConnection();
+        }
+        List<Replica> candidates = available;
+        if (!candidates.isEmpty()) {
+            Replica replica = candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                reads.increment();
+                return connection;
+            } catch (SQLTransientConnectionException e) {
+                // Hikari's connection timeout. Without a cause the pool was only busy: this read goes to the primary
+                // but the replica stays in rotation. A cause is the pool's last failure to open a connection.
+                if (e.getCause() != null) {
+                    markDown(replica, "unreachable: " + e.getCause().getMessage());
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, "unreachable: " + e.getMessage());
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Probes every replica and rebuilds the rotation from those that answer within the lag limit. Runs off the
+     * request path, so a slow or dead replica costs only the probe's timeout.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.check-interval:5000}")
+    public void checkReplicas() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            String problem = probe(replica);
+            if (problem == null) {
+                markUp(replica);
+                healthy.add(replica);
+            } else {
+                markDown(replica, problem);
+            }
+        }
+        available = List.copyOf(healthy);
+    }
+
+    private String probe(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(checkTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                resultSet.next();
+                replica.lagMillis = Math.round(resultSet.getDouble(1) * 1000);
+            }
+            return replica.lagMillis <= maxLagMillis ? null : "lagging " + replica.lagMillis + "ms behind";
+        } catch (SQLException | RuntimeException e) {
+            return "unreachable: " + e.getMessage();
+        }
+    }
+
+    private void markUp(Replica replica) {
+        if (!replica.healthy) {
+            replica.healthy = true;
+            logger.info("Replica {} back in rotation ({}ms behind)", replica.name(), replica.lagMillis);
+        }
+    }
+
+    private void markDown(Replica replica, String problem) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            logger.warn("Replica {} taken out of rotation: {}", replica.name(), problem);
+        }
+        List<Replica> current = available;
+        if (current.contains(replica)) {
+            available = current.stream().filter(r -> r != replica).toList();
+        }
+    }
+
+    private void recordWriteOnCommit() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.getId()
+                : null;
+    }
+
+    @PreDestroy
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+        primary.close();
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+    }
+}
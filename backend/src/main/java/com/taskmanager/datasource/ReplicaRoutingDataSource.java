@@ -0,0 +1,31 @@
+package com.taskmanager.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Hands out connections from the pool {@link ReplicaRouter} picks. Wrap it in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: transactions take their connection
+ * before the read-only flag is bound, and the proxy defers the choice to the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final ReplicaRouter router;
+
+    public ReplicaRoutingDataSource(ReplicaRouter router) {
+        this.router = router;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return router.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Routed connections use the configured pool credentials");
+    }
+}
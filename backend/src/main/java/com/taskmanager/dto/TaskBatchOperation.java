@@ -0,0 +1,26 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+public class TaskBatchOperation {
+
+    public enum Type {
+        CREATE,
+        UPDATE,
+        STATUS,
+        DELETE
+    }
+
+    private Type type;
+    private Long id;
+    @Size(max = 255)
+    private String title;
+    @Size(max = 255)
+    private String description;
+    private TaskStatus status;
+    private LocalDateTime dueDate;
+}
@@ -0,0 +1,31 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchResult {
+
+    public enum Outcome {
+        OK,
+        NOT_FOUND,
+        INVALID
+    }
+
+    private int index;
+    private Outcome outcome;
+    private Long id;
+    private String error;
+    private TaskDto task;
+
+    public static TaskBatchResult ok(int index, Long id, TaskDto task) {
+        return new TaskBatchResult(index, Outcome.OK, id, null, task);
+    }
+
+    public static TaskBatchResult failed(int index, Outcome outcome, Long id, String error) {
+        return new TaskBatchResult(index, outcome, id, error, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDto {
+    private Long id;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private LocalDateTime dueDate;
+    private Long userId;
+    private Long version;
+
+    public static TaskDto from(Task task) {
+        Long userId = task.getUser() != null ? task.getUser().getId() : null;
+        return new TaskDto(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getDueDate(), userId, task.getVersion());
+    }
+}
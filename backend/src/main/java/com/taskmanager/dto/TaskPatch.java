@@ -0,0 +1,57 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Partial task update. Only fields present in the request body are applied; an explicit {@code null} clears
+ * description or due date.
+ */
+@Getter
+public class TaskPatch {
+    public static final String TITLE = "title";
+    public static final String DESCRIPTION = "description";
+    public static final String STATUS = "status";
+    public static final String DUE_DATE = "dueDate";
+
+    @Size(max = 255)
+    private String title;
+    @Size(max = 255)
+    private String description;
+    private TaskStatus status;
+    private LocalDateTime dueDate;
+
+    private final Set<String> present = new HashSet<>();
+
+    public void setTitle(String title) {
+        this.title = title;
+        present.add(TITLE);
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        present.add(DESCRIPTION);
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+        present.add(STATUS);
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+        present.add(DUE_DATE);
+    }
+
+    public boolean has(String field) {
+        return present.contains(field);
+    }
+
+    public boolean isEmpty() {
+        return present.isEmpty();
+    }
+}
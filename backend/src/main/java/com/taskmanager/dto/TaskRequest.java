@@ -0,0 +1,22 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskRequest {
+    @NotBlank
+    @Size(max = 255)
+    private String title;
+    @Size(max = 255)
+    private String description;
+    private TaskStatus status;
+    private LocalDateTime dueDate;
+}
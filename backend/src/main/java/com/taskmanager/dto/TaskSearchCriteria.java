@@ -0,0 +1,34 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+public class TaskSearchCriteria {
+
+    public enum Sort {
+        DUE_DATE_ASC,
+        DUE_DATE_DESC,
+        ID_ASC,
+        ID_DESC,
+        TITLE_ASC,
+        RELEVANCE
+    }
+
+    private Set<TaskStatus> status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    private Boolean overdue;
+    private String q;
+    private Sort sort = Sort.DUE_DATE_ASC;
+    private int page = 0;
+    private Integer size;
+}
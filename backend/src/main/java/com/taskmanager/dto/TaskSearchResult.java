@@ -0,0 +1,16 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResult {
+    private long total;
+    private int page;
+    private int size;
+    private List<TaskDto> items;
+}
@@ -0,0 +1,33 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStats {
+    public enum Interval {
+        DAY, WEEK
+    }
+
+    private Map<TaskStatus, Long> byStatus;
+    private long total;
+    // Not done and due before now.
+    private long overdue;
+    // Tasks per due-date bucket, oldest first; only present when an interval is requested.
+    private List<Bucket> dueHistogram;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDate start;
+        private long count;
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSyncResponse {
+    private List<TaskDto> changed;
+    private List<Long> deleted;
+    private long cursor;
+    private boolean hasMore;
+    // The requested position is older than compacted tombstones: refetch all tasks, then sync from cursor.
+    private boolean reset;
+}
@@ -0,0 +1,19 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDto {
+    private Long id;
+    private String username;
+    private String email;
+
+    public static UserDto from(User user) {
+        return new UserDto(user.getId(), user.getUsername(), user.getEmail());
+    }
+}
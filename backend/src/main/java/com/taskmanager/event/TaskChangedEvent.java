@@ -0,0 +1,25 @@
+package com.taskmanager.event;
+
+import com.taskmanager.dto.TaskChange;
+
+/**
+ * Published by task mutations and delivered to change-feed subscribers once the transaction commits.
+ */
+public class TaskChangedEvent {
+
+    private final Long userId;
+    private final TaskChange change;
+
+    public TaskChangedEvent(Long userId, TaskChange change) {
+        this.userId = userId;
+        this.change = change;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public TaskChange getChange() {
+        return change;
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.event;
+
+/**
+ * To be published when a user's password or granted roles change, so cached principals can be dropped. No flow
+ * changes either yet; {@link com.taskmanager.security.PrincipalCache} already listens for it.
+ */
+public class UserCredentialsChangedEvent {
+
+    private final String username;
+
+    public UserCredentialsChangedEvent(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskmanager.event;
+
+/**
+ * Published when a new account is created, so the username and email can be marked as taken.
+ */
+public class UserRegisteredEvent {
+
+    private final String username;
+    private final String email;
+
+    public UserRegisteredEvent(String username, String email) {
+        this.username = username;
+        this.email = email;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskmanager.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+/**
+ * Logs the slowest steps of the last startup, as recorded by the {@link BufferingApplicationStartup} installed in
+ * {@code main}. Steps nest (a bean's instantiation includes its dependencies'), so the list points at where to
+ * look rather than adding up. The full timeline is served by the actuator {@code startup} endpoint.
+ */
+@Component
+public class StartupReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReport.class);
+
+    private final ApplicationStartup applicationStartup;
+    private final int slowestSteps;
+
+    public StartupReport(ApplicationStartup applicationStartup,
+            @Value("${metrics.startup.slowest-steps:10}") int slowestSteps) {
+        this.applicationStartup = applicationStartup;
+        this.slowestSteps = slowestSteps;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (slowestSteps <= 0 || !(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        String steps = timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(slowestSteps)
+                .map(step -> String.format("%6d ms  %s %s", step.getDuration().toMillis(),
+                        step.getStartupStep().getName(), tags(step)))
+                .collect(Collectors.joining("\n"));
+        logger.info("Ready in {} ms; slowest startup steps:\n{}", event.getTimeTaken().toMillis(),
+                steps);
+    }
+
+    private static String tags(StartupTimeline.TimelineEvent step) {
+        StringBuilder tags = new StringBuilder();
+        step.getStartupStep().getTags().forEach(tag -> tags.append(tag.getKey()).append('=').append(tag.getValue())
+                .append(' '));
+        return tags.toString().trim();
+    }
+}
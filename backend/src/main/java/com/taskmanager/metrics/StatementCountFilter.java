@@ -0,0 +1,53 @@
+package com.taskmanager.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records the number of Hibernate statements issued per request as {@code http.server.requests.sql}, tagged by
+ * URI pattern, and warns when a single request crosses the threshold (usually an N+1 query).
+ */
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public StatementCountFilter(MeterRegistry meterRegistry, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        StatementCountingInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = StatementCountingInspector.count();
+            StatementCountingInspector.clear();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.server.requests.sql")
+                    .description("SQL statements issued per request").baseUnit("statements")
+                    .tag("method", request.getMethod()).tag("uri", uri)
+                    .register(meterRegistry).record(statements);
+            if (statements > warnThreshold) {
+                logger.warn("{} {} issued {} SQL statements", request.getMethod(), uri, statements);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Shared rate-limit bucket; {@code arrivalTime} is the bucket's GCRA arrival time in epoch nanoseconds.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "rate_limit_buckets",
+        indexes = @Index(name = "idx_rate_limit_buckets_arrival_time", columnList = "arrival_time"))
+public class RateLimitBucket {
+    @Id
+    @Column(name = "bucket_key", length = 200)
+    private String key;
+
+    @Column(name = "arrival_time", nullable = false)
+    private long arrivalTime;
+}
@@ -3,14 +3,26 @@ package com.taskmanager.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_tasks_user_due_date", columnList = "user_id, due_date, id"),
+        @Index(name = "idx_tasks_user_status_due_date", columnList = "user_id, status, due_date"),
+        @Index(name = "idx_tasks_user_change_seq", columnList = "user_id, change_seq"),
+        @Index(name = "idx_tasks_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_tasks_due_date_status", columnList = "due_date, status") })
+@SQLRestriction("deleted = false")
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -25,5 +37,36 @@ public class Task {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Per-user change sequence of the last write, see TaskService#reserveChangeSeq.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long changeSeq;
+
+    // Deleted tasks stay behind as tombstones for delta sync until compaction removes them.
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted;
+
+    private LocalDateTime deletedAt;
+
+    // Reminder bookkeeping, written only by ReminderEngine: the due date the last notification was sent for, how
+    // far it got (1 reminder, 2 overdue), and the claim of the instance that will send the next one.
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime reminderDueDate;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int reminderStage;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime reminderLeaseUntil;
 } 
\ No newline at end of file
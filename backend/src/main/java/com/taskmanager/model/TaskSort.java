@@ -0,0 +1,6 @@
+package com.taskmanager.model;
+
+public enum TaskSort {
+    ID,
+    DUE_DATE
+}
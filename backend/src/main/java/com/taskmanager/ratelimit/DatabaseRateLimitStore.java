@@ -0,0 +1,112 @@
+package com.taskmanager.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buckets shared by all replicas through the {@code rate_limit_buckets} table, so a client is held to one budget
+ * however its requests are balanced. A token is taken by one conditional update of the bucket row that also returns
+ * the new arrival time, so an admitted request costs a single statement and replicas never over-admit; their clocks
+ * are assumed to agree to well within one emission interval. If the database is unavailable requests are let through
+ * rather than failing with it.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "database")
+public class DatabaseRateLimitStore implements RateLimitStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseRateLimitStore.class);
+
+    private static final String ADMIT = "update rate_limit_buckets set arrival_time = greatest(arrival_time, ?) + ? "
+            + "where bucket_key = ? and greatest(arrival_time, ?) + ? - ? <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String admitQuery;
+
+    public DatabaseRateLimitStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimit limit) {
+        long now = now();
+        try {
+            Long admitted = admit(key, limit, now);
+            if (admitted != null) {
+                return limit.allowed(admitted, now);
+            }
+            Long current = arrivalTime(key);
+            if (current != null) {
+                return limit.rejected(current, now);
+            }
+            long next = limit.admit(Long.MIN_VALUE, now);
+            try {
+                jdbcTemplate.update("insert into rate_limit_buckets (bucket_key, arrival_time) values (?, ?)", key,
+                        next);
+                return limit.allowed(next, now);
+            } catch (DuplicateKeyException e) {
+                // Another replica created the bucket first.
+                admitted = admit(key, limit, now);
+                if (admitted != null) {
+                    return limit.allowed(admitted, now);
+                }
+                current = arrivalTime(key);
+                return limit.rejected(current != null ? current : now, now);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Rate limit store unavailable, admitting request: {}", e.getMessage());
+            return new RateLimitDecision(true, limit.getLimit(), limit.getLimit(), 0, 0);
+        }
+    }
+
+    /**
+     * Takes a token and returns the bucket's new arrival time; null when the bucket is over its limit or does not
+     * exist yet.
+     */
+    private Long admit(String key, RateLimit limit, long now) {
+        long interval = limit.intervalNanos();
+        List<Long> times = jdbcTemplate.queryForList(admitQuery(), Long.class, now, interval, key, now, interval, now,
+                limit.periodNanos());
+        return times.isEmpty() ? null : times.get(0);
+    }
+
+    // PostgreSQL returns the updated row with RETURNING; H2, used by the benchmarks, with a data change delta table.
+    private String admitQuery() {
+        String query = admitQuery;
+        if (query == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            query = "PostgreSQL".equalsIgnoreCase(product) ? ADMIT + " returning arrival_time"
+                    : "select arrival_time from final table (" + ADMIT + ")";
+            admitQuery = query;
+        }
+        return query;
+    }
+
+    private Long arrivalTime(String key) {
+        List<Long> times = jdbcTemplate.queryForList(
+                "select arrival_time from rate_limit_buckets where bucket_key = ?", Long.class, key);
+        return times.isEmpty() ? null : times.get(0);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.purge-interval:60000}")
+    public void purgeIdle() {
+        int purged = jdbcTemplate.update("delete from rate_limit_buckets where arrival_time <= ?", now());
+        if (purged > 0) {
+            logger.debug("Purged {} refilled rate limit buckets", purged);
+        }
+    }
+
+    private static long now() {
+        return TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    }
+}
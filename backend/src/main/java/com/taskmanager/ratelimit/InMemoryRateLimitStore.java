@@ -0,0 +1,64 @@
+package com.taskmanager.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local buckets, sharded over independent maps so the purge walks one stripe at a time instead of one
+ * large map. Each bucket is a single CAS-updated arrival time, so the hot path takes no locks.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryRateLimitStore(@Value("${rate-limit.memory.stripes:64}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimit limit) {
+        AtomicLong bucket = stripe(key).computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = System.nanoTime();
+            long current = bucket.get();
+            long next = limit.admit(current, now);
+            if (next == Long.MIN_VALUE) {
+                return limit.rejected(current, now);
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return limit.allowed(next, now);
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled, which behave exactly like missing ones. A request racing the removal can
+     * land on the dropped bucket and go uncounted; that costs at most one token per key per purge.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.purge-interval:60000}")
+    public void purgeIdle() {
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            long now = System.nanoTime();
+            stripe.values().removeIf(bucket -> bucket.get() <= now);
+        }
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+}
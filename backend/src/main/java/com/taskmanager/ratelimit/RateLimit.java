@@ -0,0 +1,69 @@
+package com.taskmanager.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * A token bucket of {@code limit} requests refilled evenly over {@code period}, kept as a single theoretical
+ * arrival time (GCRA): the bucket is full once the clock passes it, and each request pushes it one emission
+ * interval further. Stores only need to swap that one value atomically.
+ */
+public final class RateLimit {
+
+    private final String name;
+    private final int limit;
+    private final Duration period;
+    private final long periodNanos;
+    private final long intervalNanos;
+
+    public RateLimit(String name, int limit, Duration period) {
+        if (limit <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Rate limit " + name + " needs a positive limit and period");
+        }
+        this.name = name;
+        this.limit = limit;
+        this.period = period;
+        this.periodNanos = period.toNanos();
+        this.intervalNanos = Math.max(1, periodNanos / limit);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Duration getPeriod() {
+        return period;
+    }
+
+    long periodNanos() {
+        return periodNanos;
+    }
+
+    long intervalNanos() {
+        return intervalNanos;
+    }
+
+    /**
+     * Returns the bucket's next arrival time if a request at {@code now} fits, or {@link Long#MIN_VALUE} if the
+     * bucket is empty.
+     */
+    long admit(long arrivalTime, long now) {
+        long next = Math.max(arrivalTime, now) + intervalNanos;
+        return next - now <= periodNanos ? next : Long.MIN_VALUE;
+    }
+
+    RateLimitDecision allowed(long arrivalTime, long now) {
+        long debt = Math.max(0, arrivalTime - now);
+        int remaining = (int) ((periodNanos - debt) / intervalNanos);
+        return new RateLimitDecision(true, limit, remaining, debt, 0);
+    }
+
+    RateLimitDecision rejected(long arrivalTime, long now) {
+        long debt = Math.max(0, arrivalTime - now);
+        long retryAfter = Math.max(0, arrivalTime + intervalNanos - periodNanos - now);
+        return new RateLimitDecision(false, limit, 0, debt, retryAfter);
+    }
+}
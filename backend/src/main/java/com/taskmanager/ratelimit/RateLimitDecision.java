@@ -0,0 +1,44 @@
+package com.taskmanager.ratelimit;
+
+/**
+ * Outcome of one request against a {@link RateLimit}, with what the client needs for the {@code RateLimit-*}
+ * response headers.
+ */
+public final class RateLimitDecision {
+
+    private final boolean allowed;
+    private final int limit;
+    private final int remaining;
+    private final long resetNanos;
+    private final long retryAfterNanos;
+
+    public RateLimitDecision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+        this.allowed = allowed;
+        this.limit = limit;
+        this.remaining = remaining;
+        this.resetNanos = resetNanos;
+        this.retryAfterNanos = retryAfterNanos;
+    }
+
+    public boolean isAllowed() {
+        return allowed;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    /** Time until the bucket is full again. */
+    public long getResetNanos() {
+        return resetNanos;
+    }
+
+    /** Time until the next request would be admitted; zero when this one was. */
+    public long getRetryAfterNanos() {
+        return retryAfterNanos;
+    }
+}
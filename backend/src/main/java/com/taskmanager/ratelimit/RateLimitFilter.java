@@ -0,0 +1,116 @@
+package com.taskmanager.ratelimit;
+
+import com.taskmanager.security.JwtTokenUtil;
+import com.taskmanager.security.TokenClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles requests before any authentication work is done. Credential endpoints share a per-IP budget, since
+ * each call costs a BCrypt hash; everything else is budgeted per user when the request carries a valid token
+ * and per IP otherwise. Verified tokens are cached by {@link JwtTokenUtil}, so resolving the user here does not
+ * add a second signature check.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final Set<String> AUTH_PATHS = Set.of("/auth/register", "/auth/login", "/auth/refresh");
+
+    private final RateLimitStore store;
+    private final JwtTokenUtil jwtTokenUtil;
+    private final boolean enabled;
+    private final RateLimit authLimit;
+    private final RateLimit apiLimit;
+    private final Counter authRejections;
+    private final Counter apiRejections;
+
+    public RateLimitFilter(RateLimitStore store, JwtTokenUtil jwtTokenUtil, MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.auth.requests:5}") int authRequests,
+            @Value("${rate-limit.auth.period:60}") long authPeriodSeconds,
+            @Value("${rate-limit.api.requests:100}") int apiRequests,
+            @Value("${rate-limit.api.period:60}") long apiPeriodSeconds) {
+        this.store = store;
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.enabled = enabled;
+        this.authLimit = new RateLimit("auth", authRequests, Duration.ofSeconds(authPeriodSeconds));
+        this.apiLimit = new RateLimit("api", apiRequests, Duration.ofSeconds(apiPeriodSeconds));
+        this.authRejections = rejections(meterRegistry, authLimit);
+        this.apiRejections = rejections(meterRegistry, apiLimit);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, RateLimit limit) {
+        return Counter.builder("http.server.requests.throttled").description("Requests rejected by the rate limiter")
+                .tag("class", limit.getName()).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = path(request);
+        return !enabled || HttpMethod.OPTIONS.matches(request.getMethod()) || path.startsWith("/api-docs")
+                || path.startsWith("/swagger-ui");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        boolean auth = AUTH_PATHS.contains(path(request));
+        RateLimit limit = auth ? authLimit : apiLimit;
+        String client = auth ? "ip:" + request.getRemoteAddr() : client(request);
+        RateLimitDecision decision = store.tryAcquire(limit.getName() + ":" + client, limit);
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.getLimit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(seconds(decision.getResetNanos())));
+        response.setHeader("RateLimit-Policy", limit.getLimit() + ";w=" + limit.getPeriod().toSeconds());
+        if (decision.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        (auth ? authRejections : apiRejections).increment();
+        logger.debug("Rate limit {} exceeded by {}", limit.getName(), client);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds(decision.getRetryAfterNanos())));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded");
+    }
+
+    private String client(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            Optional<TokenClaims> claims = jwtTokenUtil.validate(header.substring(7));
+            if (claims.isPresent()) {
+                Long userId = claims.get().getUserId();
+                return userId != null ? "user:" + userId : "user:" + claims.get().getSubject();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static long seconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanager.ratelimit;
+
+/**
+ * Holds one bucket per key and takes a token from it atomically.
+ */
+public interface RateLimitStore {
+
+    RateLimitDecision tryAcquire(String key, RateLimit limit);
+}
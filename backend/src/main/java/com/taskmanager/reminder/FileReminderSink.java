@@ -0,0 +1,48 @@
+package com.taskmanager.reminder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends reminders to a file as newline-delimited JSON, one batch per write.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.reminders.sink", havingValue = "file")
+public class FileReminderSink implements ReminderSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileReminderSink.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileReminderSink(ObjectMapper objectMapper,
+            @Value("${tasks.reminders.file:reminders.ndjson}") Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    @Override
+    public void send(List<TaskReminder> reminders) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            for (TaskReminder reminder : reminders) {
+                writer.write(objectMapper.writeValueAsString(reminder));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            logger.error("Could not write {} reminders to {}: {}", reminders.size(), file, e.getMessage());
+        }
+    }
+}
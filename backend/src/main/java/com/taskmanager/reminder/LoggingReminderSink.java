@@ -0,0 +1,23 @@
+package com.taskmanager.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "tasks.reminders.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void send(List<TaskReminder> reminders) {
+        for (TaskReminder reminder : reminders) {
+            logger.info("Task reminder {}: task {} \"{}\" for user {} is due {}", reminder.getType(),
+                    reminder.getTaskId(), reminder.getTitle(), reminder.getUserId(), reminder.getDueDate());
+        }
+    }
+}
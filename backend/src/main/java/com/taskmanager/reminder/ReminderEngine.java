@@ -0,0 +1,169 @@
+package com.taskmanager.reminder;
+
+import com.taskmanager.repository.TaskReminderRepository;
+import com.taskmanager.util.TimerWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends a {@code DUE_SOON} reminder {@code lead-time} before a task is due and an {@code OVERDUE} notification
+ * when it falls due, unless the task is done by then.
+ *
+ * <p>Every {@code scan-interval} the engine claims the tasks whose next notification falls within
+ * {@code lookahead} (an index range scan, never a full table scan) and files them in a timer wheel, which fires
+ * them on time from memory. Claims use {@code FOR UPDATE SKIP LOCKED} and a lease, so instances split the work;
+ * tasks claimed by an instance that stops are picked up by another once their lease runs out. All work runs on
+ * one scheduler thread.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReminderEngine.class);
+
+    private final TaskReminderRepository reminderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReminderSink sink;
+    private final Duration leadTime;
+    private final Duration lookahead;
+    private final Duration maxLateness;
+    private final Duration scanInterval;
+    private final Duration tick;
+    private final int batchSize;
+    private final int maxScheduled;
+    private final TimerWheel<TaskReminder> wheel;
+    private final ScheduledExecutorService scheduler;
+    private final Map<TaskReminder.Type, Counter> sent = new EnumMap<>(TaskReminder.Type.class);
+
+    public ReminderEngine(TaskReminderRepository reminderRepository, TransactionTemplate transactionTemplate,
+            ReminderSink sink, MeterRegistry meterRegistry,
+            @Value("${tasks.reminders.lead-time:1h}") Duration leadTime,
+            @Value("${tasks.reminders.lookahead:5m}") Duration lookahead,
+            @Value("${tasks.reminders.scan-interval:30s}") Duration scanInterval,
+            @Value("${tasks.reminders.tick:1s}") Duration tick,
+            @Value("${tasks.reminders.max-lateness:24h}") Duration maxLateness,
+            @Value("${tasks.reminders.batch-size:500}") int batchSize,
+            @Value("${tasks.reminders.max-scheduled:100000}") int maxScheduled) {
+        this.reminderRepository = reminderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.leadTime = leadTime;
+        this.lookahead = lookahead;
+        this.maxLateness = maxLateness;
+        this.scanInterval = scanInterval;
+        this.tick = tick;
+        this.batchSize = batchSize;
+        this.maxScheduled = maxScheduled;
+        this.wheel = new TimerWheel<>(tick.toMillis(), 4, System.currentTimeMillis());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (TaskReminder.Type type : TaskReminder.Type.values()) {
+            sent.put(type, Counter.builder("tasks.reminders.sent").tag("type", type.name()).register(meterRegistry));
+        }
+        Gauge.builder("tasks.reminders.scheduled", wheel, TimerWheel::size).register(meterRegistry);
+    }
+
+    @EventListener
+    public void onApplicationStarted(ApplicationStartedEvent event) {
+        scheduler.scheduleWithFixedDelay(guarded(this::scan), 0, scanInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(guarded(this::fireDue), tick.toMillis(), tick.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    void scan() {
+        int claimed;
+        do {
+            int limit = Math.min(batchSize, maxScheduled - wheel.size());
+            if (limit <= 0) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            LocalDateTime horizon = now.plus(lookahead);
+            List<TaskReminder> batch = transactionTemplate.execute(status -> reminderRepository.claim(
+                    now.minus(maxLateness), horizon.plus(leadTime), horizon, now, horizon.plus(lookahead), limit));
+            claimed = batch == null ? 0 : batch.size();
+            for (int i = 0; i < claimed; i++) {
+                schedule(batch.get(i), now);
+            }
+            if (claimed > 0) {
+                logger.debug("Claimed {} task reminders", claimed);
+            }
+        } while (claimed == batchSize);
+    }
+
+    private void schedule(TaskReminder reminder, LocalDateTime now) {
+        LocalDateTime fireAt = reminder.getDueDate();
+        if (reminder.getType() == TaskReminder.Type.DUE_SOON) {
+            if (reminder.getDueDate().isAfter(now)) {
+                fireAt = reminder.getDueDate().minus(leadTime);
+            } else {
+                reminder.setType(TaskReminder.Type.OVERDUE); // claimed too late to remind; go straight to overdue
+            }
+        }
+        wheel.schedule(reminder, fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    void fireDue() {
+        List<TaskReminder> due = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), due::add);
+        if (due.isEmpty()) {
+            return;
+        }
+        int[] counts = transactionTemplate.execute(status -> reminderRepository.markSent(due));
+        List<TaskReminder> reminders = new ArrayList<>(due.size());
+        List<Long> stale = new ArrayList<>();
+        for (int i = 0; i < due.size(); i++) {
+            if (counts != null && counts[i] > 0) {
+                reminders.add(due.get(i));
+            } else {
+                stale.add(due.get(i).getTaskId());
+            }
+        }
+        // Completed or rescheduled since the claim; let the next scan pick up the new due date straight away.
+        reminderRepository.release(stale);
+        if (!reminders.isEmpty()) {
+            sink.send(reminders);
+            reminders.forEach(reminder -> sent.get(reminder.getType()).increment());
+        }
+    }
+
+    private static Runnable guarded(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.error("Task reminder run failed: {}", e.getMessage(), e);
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanager.reminder;
+
+import java.util.List;
+
+/**
+ * Delivers reminders. Called from the reminder scheduler thread after the reminders have been recorded as sent,
+ * so delivery is at most once; implementations that do slow I/O should hand off rather than block.
+ */
+public interface ReminderSink {
+
+    void send(List<TaskReminder> reminders);
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.reminder;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskReminder {
+    /** Notifications in the order they are sent for one due date; the stage stored per task is the ordinal + 1. */
+    public enum Type {
+        DUE_SOON, OVERDUE;
+
+        public int stage() {
+            return ordinal() + 1;
+        }
+    }
+
+    private Type type;
+    private Long taskId;
+    private Long userId;
+    private String title;
+    private LocalDateTime dueDate;
+}
@@ -0,0 +1,164 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.model.TaskSort;
+import com.taskmanager.model.TaskStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task reads and writes over R2DBC for the reactive profile, mapped straight to {@link TaskDto} like
+ * {@link TaskSearchRepository}. Writes keep the bookkeeping the JPA path does: a version bump, a per-user
+ * {@code change_seq} for delta sync, and soft deletes.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, title, description, status, due_date, user_id, version";
+    private static final int FETCH_SIZE = 500;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveTaskRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<TaskDto> findByUserId(Long userId, TaskSort sort) {
+        String orderBy = sort == TaskSort.DUE_DATE ? " order by due_date asc nulls last, id" : " order by id";
+        return databaseClient.sql("select " + COLUMNS + " from tasks where user_id = :userId and deleted = false"
+                        + orderBy)
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("userId", userId)
+                .map(ReactiveTaskRepository::toDto)
+                .all();
+    }
+
+    /**
+     * One keyset page in the order of {@link #findByUserId}; {@code afterId} is null for the first page. Undated
+     * tasks sort last, so a cursor on an undated task only continues among those.
+     */
+    public Flux<TaskDto> findPage(Long userId, TaskSort sort, LocalDateTime afterDueDate, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("select " + COLUMNS + " from tasks where user_id = :userId"
+                + " and deleted = false");
+        if (afterId != null) {
+            if (sort != TaskSort.DUE_DATE) {
+                sql.append(" and id > :afterId");
+            } else if (afterDueDate == null) {
+                sql.append(" and due_date is null and id > :afterId");
+            } else {
+                sql.append(" and (due_date > :afterDueDate or (due_date = :afterDueDate and id > :afterId)"
+                        + " or due_date is null)");
+            }
+        }
+        sql.append(sort == TaskSort.DUE_DATE ? " order by due_date asc nulls last, id" : " order by id")
+                .append(" limit :limit");
+        DatabaseClient.GenericExecuteSpec query = databaseClient.sql(sql.toString())
+                .bind("userId", userId)
+                .bind("limit", limit);
+        if (afterId != null) {
+            query = query.bind("afterId", afterId);
+        }
+        if (afterId != null && sort == TaskSort.DUE_DATE && afterDueDate != null) {
+            query = query.bind("afterDueDate", afterDueDate);
+        }
+        return query.map(ReactiveTaskRepository::toDto).all();
+    }
+
+    public Flux<TaskDto> findByUserIdAndStatus(Long userId, TaskStatus status) {
+        return databaseClient.sql("select " + COLUMNS + " from tasks where user_id = :userId and status = :status"
+                        + " and deleted = false order by id")
+                .bind("userId", userId)
+                .bind("status", status.name())
+                .map(ReactiveTaskRepository::toDto)
+                .all();
+    }
+
+    public Mono<TaskDto> findByIdAndUserId(Long id, Long userId) {
+        return databaseClient.sql("select " + COLUMNS + " from tasks where id = :id and user_id = :userId"
+                        + " and deleted = false")
+                .bind("id", id)
+                .bind("userId", userId)
+                .map(ReactiveTaskRepository::toDto)
+                .one();
+    }
+
+    // Ids are drawn one per row, like TaskTransferRepository, so they never collide with Hibernate's pooled blocks.
+    public Mono<TaskDto> insert(TaskRequest task, Long userId, long changeSeq) {
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql("insert into tasks (id, title, description,"
+                        + " status, due_date, user_id, change_seq, version, deleted) values (nextval('tasks_seq'),"
+                        + " :title, :description, :status, :dueDate, :userId, :changeSeq, 0, false)"
+                        + " returning " + COLUMNS)
+                .bind("userId", userId)
+                .bind("changeSeq", changeSeq);
+        return bindFields(insert, task).map(ReactiveTaskRepository::toDto).one();
+    }
+
+    /**
+     * Replaces the task's fields; with {@code expectedVersion} only that version matches. Empty when nothing was
+     * updated, either because the task is missing or because its version moved on.
+     */
+    public Mono<TaskDto> update(Long id, TaskRequest task, Long userId, long changeSeq, Long expectedVersion) {
+        DatabaseClient.GenericExecuteSpec update = databaseClient.sql("update tasks set title = :title,"
+                        + " description = :description, status = :status, due_date = :dueDate,"
+                        + " change_seq = :changeSeq, version = version + 1"
+                        + " where id = :id and user_id = :userId and deleted = false"
+                        + (expectedVersion != null ? " and version = :expectedVersion" : "")
+                        + " returning " + COLUMNS)
+                .bind("id", id)
+                .bind("userId", userId)
+                .bind("changeSeq", changeSeq);
+        if (expectedVersion != null) {
+            update = update.bind("expectedVersion", expectedVersion);
+        }
+        return bindFields(update, task).map(ReactiveTaskRepository::toDto).one();
+    }
+
+    public Mono<Long> softDelete(Long id, Long userId, long changeSeq) {
+        return databaseClient.sql("update tasks set deleted = true, deleted_at = :now, change_seq = :changeSeq,"
+                        + " version = version + 1 where id = :id and user_id = :userId and deleted = false")
+                .bind("now", LocalDateTime.now())
+                .bind("changeSeq", changeSeq)
+                .bind("id", id)
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Reserves {@code count} consecutive change sequence numbers for the user and returns the first. The row lock
+     * taken here orders the user's concurrent writes, as in the JPA path.
+     */
+    public Mono<Long> reserveChangeSeq(Long userId, int count) {
+        return databaseClient.sql("update users set change_seq = change_seq + :count where id = :id"
+                        + " returning change_seq")
+                .bind("count", (long) count)
+                .bind("id", userId)
+                .map(row -> row.get("change_seq", Long.class) - count + 1)
+                .one();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFields(DatabaseClient.GenericExecuteSpec spec,
+            TaskRequest task) {
+        spec = spec.bind("title", task.getTitle())
+                .bind("status", (task.getStatus() != null ? task.getStatus() : TaskStatus.TODO).name());
+        spec = task.getDescription() != null ? spec.bind("description", task.getDescription())
+                : spec.bindNull("description", String.class);
+        return task.getDueDate() != null ? spec.bind("dueDate", task.getDueDate())
+                : spec.bindNull("dueDate", LocalDateTime.class);
+    }
+
+    private static TaskDto toDto(Readable row) {
+        return new TaskDto(row.get("id", Long.class), row.get("title", String.class),
+                row.get("description", String.class), TaskStatus.valueOf(row.get("status", String.class)),
+                row.get("due_date", LocalDateTime.class), row.get("user_id", Long.class),
+                row.get("version", Long.class));
+    }
+}
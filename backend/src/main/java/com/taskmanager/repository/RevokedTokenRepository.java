@@ -0,0 +1,17 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    @Query("select count(r) > 0 from RevokedToken r where r.jti = :jti and r.expiresAt > :now")
+    boolean isRevoked(@Param("jti") String jti, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,86 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.reminder.TaskReminder;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reminder bookkeeping on the tasks table. Candidates are found by a range scan of the {@code (due_date, status)}
+ * index, and a task's reminder state is only trusted while its {@code reminder_due_date} still matches the due
+ * date, so rescheduling a task re-arms its reminders without any write from the task endpoints.
+ */
+@Repository
+public class TaskReminderRepository {
+
+    private static final String NEXT_TYPE = "case when reminder_due_date = due_date then reminder_stage else 0 end";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TaskReminderRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Claims up to {@code limit} open tasks whose next notification falls before the horizons: due before
+     * {@code dueSoonHorizon} for tasks not yet reminded, before {@code overdueHorizon} for tasks only reminded.
+     * Rows locked by another instance's claim are skipped, and claimed rows are leased until {@code leaseUntil}.
+     * Must run in a transaction. The returned reminders carry the next notification type.
+     */
+    public List<TaskReminder> claim(LocalDateTime earliest, LocalDateTime dueSoonHorizon,
+            LocalDateTime overdueHorizon, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("earliest", Timestamp.valueOf(earliest))
+                .addValue("dueSoonHorizon", Timestamp.valueOf(dueSoonHorizon))
+                .addValue("overdueHorizon", Timestamp.valueOf(overdueHorizon))
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("done", TaskStatus.DONE.name())
+                .addValue("limit", limit);
+        List<TaskReminder> claimed = jdbcTemplate.query("select id, user_id, title, due_date, " + NEXT_TYPE
+                + " as stage from tasks where due_date >= :earliest and due_date < :dueSoonHorizon"
+                + " and status <> :done and deleted = false"
+                + " and (reminder_lease_until is null or reminder_lease_until < :now)"
+                + " and (reminder_due_date is null or reminder_due_date <> due_date"
+                + " or (reminder_stage = 1 and due_date < :overdueHorizon))"
+                + " order by due_date limit :limit for update skip locked",
+                params, (rs, rowNum) -> new TaskReminder(
+                        TaskReminder.Type.values()[rs.getInt("stage")], rs.getLong("id"), rs.getLong("user_id"),
+                        rs.getString("title"), rs.getTimestamp("due_date").toLocalDateTime()));
+        if (!claimed.isEmpty()) {
+            jdbcTemplate.update("update tasks set reminder_lease_until = :leaseUntil where id in (:ids)",
+                    new MapSqlParameterSource("leaseUntil", Timestamp.valueOf(leaseUntil))
+                            .addValue("ids", claimed.stream().map(TaskReminder::getTaskId).toList()));
+        }
+        return claimed;
+    }
+
+    /**
+     * Records each reminder as sent and releases its lease. A reminder is only recorded, and its count is only 1,
+     * if the task is still open, still due when it was claimed, and not already past this stage, which keeps a
+     * notification from going out twice when two instances end up holding the same task.
+     */
+    public int[] markSent(List<TaskReminder> reminders) {
+        SqlParameterSource[] batch = reminders.stream()
+                .map(reminder -> new MapSqlParameterSource("id", reminder.getTaskId())
+                        .addValue("dueDate", Timestamp.valueOf(reminder.getDueDate()))
+                        .addValue("stage", reminder.getType().stage())
+                        .addValue("done", TaskStatus.DONE.name()))
+                .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate("update tasks set reminder_stage = :stage, reminder_due_date = due_date,"
+                + " reminder_lease_until = null where id = :id and due_date = :dueDate and status <> :done"
+                + " and deleted = false and (reminder_due_date is null or reminder_due_date <> due_date"
+                + " or reminder_stage < :stage)", batch);
+    }
+
+    public void release(List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            jdbcTemplate.update("update tasks set reminder_lease_until = null where id in (:ids)",
+                    new MapSqlParameterSource("ids", taskIds));
+        }
+    }
+}
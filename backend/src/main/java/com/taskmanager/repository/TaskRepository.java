@@ -2,11 +2,60 @@ package com.taskmanager.repository;
 
 import com.taskmanager.model.Task;
 import com.taskmanager.model.TaskStatus;
-import com.taskmanager.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByUser(User user);
-    List<Task> findByUserAndStatus(User user, TaskStatus status);
-} 
\ No newline at end of file
+    List<Task> findByUserId(Long userId);
+    List<Task> findByUserIdAndStatus(Long userId, TaskStatus status);
+    Optional<Task> findByIdAndUserId(Long id, Long userId);
+    List<Task> findByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    @Modifying
+    @Query("update Task t set t.deleted = true, t.deletedAt = :now, t.changeSeq = :changeSeq, "
+            + "t.version = t.version + 1 where t.id = :id and t.user.id = :userId and t.deleted = false")
+    int softDeleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId,
+            @Param("changeSeq") long changeSeq, @Param("now") LocalDateTime now);
+
+    // Native so that tombstones, which the entity's restriction hides, are included.
+    @Query(value = "select * from tasks where user_id = :userId and change_seq > :since "
+            + "order by change_seq limit :limit", nativeQuery = true)
+    List<Task> findChangedSince(@Param("userId") Long userId, @Param("since") long since,
+            @Param("limit") int limit);
+
+    @Query("select t from Task t where t.user.id = :userId and t.id > :afterId order by t.id")
+    List<Task> findPageById(@Param("userId") Long userId, @Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select t from Task t where t.user.id = :userId and t.dueDate is not null order by t.dueDate, t.id")
+    List<Task> findFirstPageByDueDate(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select t from Task t where t.user.id = :userId and t.dueDate is not null "
+            + "and (t.dueDate > :dueDate or (t.dueDate = :dueDate and t.id > :afterId)) order by t.dueDate, t.id")
+    List<Task> findPageByDueDate(@Param("userId") Long userId, @Param("dueDate") LocalDateTime dueDate,
+            @Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select t from Task t where t.user.id = :userId and t.dueDate is null and t.id > :afterId order by t.id")
+    List<Task> findPageWithoutDueDate(@Param("userId") Long userId, @Param("afterId") long afterId,
+            Pageable pageable);
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select t from Task t where t.user.id = :userId order by t.id")
+    Stream<Task> streamByUserOrderById(@Param("userId") Long userId);
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select t from Task t where t.user.id = :userId order by t.dueDate asc nulls last, t.id")
+    Stream<Task> streamByUserOrderByDueDate(@Param("userId") Long userId);
+}
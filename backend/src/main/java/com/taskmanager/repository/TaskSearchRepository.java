@@ -0,0 +1,126 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskSearchCriteria;
+import com.taskmanager.model.TaskStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Filtered task queries built as SQL and mapped straight to {@link TaskDto}, so no entities are loaded.
+ * Filters are served by the {@code (user_id, status, due_date)} index and, on PostgreSQL, the GIN text index
+ * created by the {@code V1__baseline} migration.
+ */
+@Repository
+public class TaskSearchRepository {
+
+    public static final String SEARCH_DOCUMENT =
+            "to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(description, ''))";
+
+    static final RowMapper<TaskDto> TASK_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp dueDate = rs.getTimestamp("due_date");
+        return new TaskDto(rs.getLong("id"), rs.getString("title"), rs.getString("description"),
+                TaskStatus.valueOf(rs.getString("status")), dueDate != null ? dueDate.toLocalDateTime() : null,
+                rs.getLong("user_id"), rs.getLong("version"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean fullTextSearch; // detected on first use, so startup needs no connection
+
+    public TaskSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long count(Long userId, TaskSearchCriteria criteria) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "select count(*) from tasks" + where(userId, criteria, params);
+        Long count = jdbcTemplate.queryForObject(sql, params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    public List<TaskDto> find(Long userId, TaskSearchCriteria criteria, int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "select id, title, description, status, due_date, user_id, version from tasks"
+                + where(userId, criteria, params) + orderBy(criteria) + " limit :limit offset :offset";
+        params.addValue("limit", limit).addValue("offset", offset);
+        return jdbcTemplate.query(sql, params, TASK_ROW_MAPPER);
+    }
+
+    private String where(Long userId, TaskSearchCriteria criteria, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder(" where user_id = :userId and deleted = false");
+        params.addValue("userId", userId);
+        if (criteria.getStatus() != null && !criteria.getStatus().isEmpty()) {
+            sql.append(" and status in (:statuses)");
+            params.addValue("statuses", criteria.getStatus().stream().map(Enum::name).toList());
+        }
+        if (criteria.getDueFrom() != null) {
+            sql.append(" and due_date >= :dueFrom");
+            params.addValue("dueFrom", Timestamp.valueOf(criteria.getDueFrom()));
+        }
+        if (criteria.getDueTo() != null) {
+            sql.append(" and due_date < :dueTo");
+            params.addValue("dueTo", Timestamp.valueOf(criteria.getDueTo()));
+        }
+        if (criteria.getOverdue() != null) {
+            sql.append(criteria.getOverdue() ? " and due_date < :now and status <> 'DONE'"
+                    : " and (due_date is null or due_date >= :now or status = 'DONE')");
+            params.addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        }
+        if (hasText(criteria)) {
+            if (fullTextSearch()) {
+                sql.append(" and ").append(SEARCH_DOCUMENT).append(" @@ plainto_tsquery('simple', :q)");
+                params.addValue("q", criteria.getQ());
+            } else {
+                sql.append(" and (lower(title) like :q or lower(description) like :q)");
+                params.addValue("q", "%" + criteria.getQ().toLowerCase(Locale.ROOT) + "%");
+            }
+        }
+        return sql.toString();
+    }
+
+    private String orderBy(TaskSearchCriteria criteria) {
+        TaskSearchCriteria.Sort sort = criteria.getSort() != null ? criteria.getSort()
+                : TaskSearchCriteria.Sort.DUE_DATE_ASC;
+        switch (sort) {
+            case DUE_DATE_DESC:
+                return " order by due_date desc nulls last, id desc";
+            case ID_ASC:
+                return " order by id";
+            case ID_DESC:
+                return " order by id desc";
+            case TITLE_ASC:
+                return " order by title, id";
+            case RELEVANCE:
+                if (fullTextSearch() && hasText(criteria)) {
+                    return " order by ts_rank(" + SEARCH_DOCUMENT + ", plainto_tsquery('simple', :q)) desc, id";
+                }
+                return " order by id";
+            case DUE_DATE_ASC:
+            default:
+                return " order by due_date asc nulls last, id";
+        }
+    }
+
+    private static boolean hasText(TaskSearchCriteria criteria) {
+        return criteria.getQ() != null && !criteria.getQ().isBlank();
+    }
+
+    private boolean fullTextSearch() {
+        Boolean enabled = fullTextSearch;
+        if (enabled == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            enabled = "PostgreSQL".equalsIgnoreCase(product);
+            fullTextSearch = enabled;
+        }
+        return enabled;
+    }
+}
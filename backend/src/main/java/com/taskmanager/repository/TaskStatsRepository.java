@@ -0,0 +1,70 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.model.TaskStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Aggregate task queries, run as GROUP BY over the {@code (user_id, status, due_date)} index so counts come back
+ * without transferring task rows.
+ */
+@Repository
+public class TaskStatsRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TaskStatsRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Counts tasks per status and overdue tasks in one pass.
+     */
+    public TaskStats countByStatus(Long userId, LocalDateTime now) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        long[] totals = new long[2];
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId)
+                .addValue("now", Timestamp.valueOf(now));
+        jdbcTemplate.query("select status, count(*) as total, "
+                + "sum(case when due_date < :now then 1 else 0 end) as past_due from tasks "
+                + "where user_id = :userId and deleted = false group by status", params, rs -> {
+                    TaskStatus status = TaskStatus.valueOf(rs.getString("status"));
+                    long count = rs.getLong("total");
+                    byStatus.put(status, count);
+                    totals[0] += count;
+                    if (status != TaskStatus.DONE) {
+                        totals[1] += rs.getLong("past_due");
+                    }
+                });
+        return new TaskStats(byStatus, totals[0], totals[1], null);
+    }
+
+    /**
+     * Counts tasks per due day in {@code [from, to)}. Days without tasks are absent.
+     */
+    public Map<LocalDate, Long> countByDueDay(Long userId, LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId)
+                .addValue("from", Timestamp.valueOf(from.atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(to.atStartOfDay()));
+        Map<LocalDate, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query("select cast(due_date as date) as due_day, count(*) as total from tasks "
+                + "where user_id = :userId and deleted = false and due_date >= :from and due_date < :to "
+                + "group by cast(due_date as date)", params,
+                rs -> {
+                    counts.put(rs.getDate("due_day").toLocalDate(), rs.getLong("total"));
+                });
+        return counts;
+    }
+}
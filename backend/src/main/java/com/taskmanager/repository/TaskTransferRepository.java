@@ -0,0 +1,66 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.model.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bulk task export and import over plain JDBC, so neither direction goes through the persistence context.
+ */
+@Repository
+public class TaskTransferRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public TaskTransferRepository(JdbcTemplate jdbcTemplate,
+            @Value("${tasks.transfer.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Hands the user's tasks to {@code action} in id order from a forward-only cursor. PostgreSQL only honours the
+     * fetch size inside a transaction; otherwise it reads the whole result set into memory.
+     */
+    public void forEachTask(Long userId, Consumer<TaskDto> action) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "select id, title, description, status, due_date, user_id, version from tasks"
+                            + " where user_id = ? and deleted = false order by id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, userId);
+            return statement;
+        }, (RowCallbackHandler) rs -> action.accept(TaskSearchRepository.TASK_ROW_MAPPER.mapRow(rs, 0)));
+    }
+
+    /**
+     * Inserts the tasks as one JDBC batch, stamping them with consecutive change sequences from
+     * {@code firstChangeSeq}.
+     */
+    public void insert(Long userId, List<TaskRequest> tasks, long firstChangeSeq) {
+        List<Object[]> rows = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskRequest task = tasks.get(i);
+            rows.add(new Object[] { task.getTitle(), task.getDescription(),
+                    (task.getStatus() != null ? task.getStatus() : TaskStatus.TODO).name(),
+                    task.getDueDate() != null ? Timestamp.valueOf(task.getDueDate()) : null, userId,
+                    firstChangeSeq + i });
+        }
+        // Ids are drawn one per row; sequence values are never shared with Hibernate's pooled blocks.
+        jdbcTemplate.batchUpdate("insert into tasks (id, title, description, status, due_date, user_id, change_seq,"
+                + " version, deleted) values (nextval('tasks_seq'), ?, ?, ?, ?, ?, ?, 0, false)", rows);
+    }
+}
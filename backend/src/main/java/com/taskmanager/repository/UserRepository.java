@@ -2,6 +2,9 @@ package com.taskmanager.repository;
 
 import com.taskmanager.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -9,4 +12,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Modifying
+    @Query("update User u set u.changeSeq = u.changeSeq + :count where u.id = :id")
+    int incrementChangeSeq(@Param("id") Long id, @Param("count") long count);
+
+    @Query("select u.changeSeq from User u where u.id = :id")
+    long findChangeSeq(@Param("id") Long id);
+
+    @Query("select u.syncFloor from User u where u.id = :id")
+    long findSyncFloor(@Param("id") Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.taskmanager.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt cost whose hash time on this host stays within a target. Each step doubles the
+ * work, so measuring stops at the first strength over the target.
+ */
+final class BCryptStrengthTuner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptStrengthTuner.class);
+
+    static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final String SAMPLE = "Calibration-Passw0rd!";
+
+    private BCryptStrengthTuner() {
+    }
+
+    static int tune(Duration target) {
+        new BCryptPasswordEncoder(4).encode(SAMPLE);
+        int chosen = MIN_STRENGTH;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            if (strength > MIN_STRENGTH && elapsedMillis > target.toMillis()) {
+                break;
+            }
+            chosen = strength;
+            if (elapsedMillis * 2 > target.toMillis()) {
+                break;
+            }
+        }
+        logger.info("Using BCrypt strength {} for a target hash time of {} ms", chosen, target.toMillis());
+        return chosen;
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.InetSocketAddress;
+
+/**
+ * The caller's IP address as a controller argument, so the shared {@code AuthController} can use it on either web
+ * stack. Behind the proxy it comes from {@code X-Forwarded-For}, per {@code server.forward-headers-strategy}.
+ */
+public record ClientAddress(String value) {
+
+    public static class ServletResolver implements HandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.getParameterType() == ClientAddress.class;
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+            HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+            return new ClientAddress(request != null ? request.getRemoteAddr() : "");
+        }
+    }
+
+    public static class ReactiveResolver implements SyncHandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.getParameterType() == ClientAddress.class;
+        }
+
+        @Override
+        public Object resolveArgumentValue(MethodParameter parameter, BindingContext bindingContext,
+                ServerWebExchange exchange) {
+            InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+            if (remote == null) {
+                return new ClientAddress("");
+            }
+            return new ClientAddress(remote.getAddress() != null ? remote.getAddress().getHostAddress()
+                    : remote.getHostString());
+        }
+    }
+}
@@ -2,13 +2,12 @@ package com.taskmanager.security;
 
 import com.taskmanager.model.User;
 import com.taskmanager.repository.UserRepository;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-
-import java.util.Collections;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
@@ -19,12 +18,16 @@ public class CustomUserDetailsService implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    /**
+     * Reads from the primary rather than a replica, so a new account or changed password takes effect at once.
+     */
     @Override
+    @Transactional
+    @Timed(value = "auth.user.lookup", histogram = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
-        return new org.springframework.security.core.userdetails.User(user.getUsername(), user.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        return AuthenticatedUser.from(user);
     }
-}
\ No newline at end of file
+}
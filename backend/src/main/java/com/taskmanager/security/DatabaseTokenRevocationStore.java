@@ -0,0 +1,58 @@
+package com.taskmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.model.RevokedToken;
+import com.taskmanager.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Revocation store shared by all replicas through the {@code revoked_tokens} table. Answers are cached
+ * locally for a short window, which bounds how long a logout on another node can take to be honored here.
+ */
+@Component
+@ConditionalOnProperty(name = "security.revocation.store", havingValue = "database")
+public class DatabaseTokenRevocationStore implements TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseTokenRevocationStore.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Cache<String, Boolean> lookups;
+
+    public DatabaseTokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+            @Value("${security.revocation.cache.max-size:100000}") long maxSize,
+            @Value("${security.revocation.cache.ttl:5s}") Duration ttl) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.lookups = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt));
+        lookups.put(jti, Boolean.TRUE);
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return lookups.get(jti, key -> revokedTokenRepository.isRevoked(key, Instant.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-interval:60000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = revokedTokenRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            logger.debug("Purged {} expired token revocations", purged);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskmanager.security;
+
+import com.taskmanager.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local revocation store. Entries leave an expiry-ordered queue as their tokens expire, and a Bloom
+ * filter answers the common "not revoked" case without touching the map.
+ */
+@Component
+@ConditionalOnProperty(name = "security.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final DelayQueue<Expiry> expiries = new DelayQueue<>();
+    private final int expectedRevocations;
+    private volatile BloomFilter filter;
+
+    public InMemoryTokenRevocationStore(
+            @Value("${security.revocation.expected-revocations:100000}") int expectedRevocations) {
+        this.expectedRevocations = expectedRevocations;
+        this.filter = new BloomFilter(expectedRevocations, 0.01);
+    }
+
+    @Override
+    public synchronized void revoke(String jti, Instant expiresAt) {
+        if (revoked.put(jti, expiresAt) == null) {
+            expiries.add(new Expiry(jti, expiresAt));
+        }
+        filter.put(jti);
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.purge-interval:60000}")
+    public void purgeExpired() {
+        int purged = 0;
+        for (Expiry expiry = expiries.poll(); expiry != null; expiry = expiries.poll()) {
+            revoked.remove(expiry.jti);
+            purged++;
+        }
+        if (purged > 0) {
+            rebuildFilter();
+        }
+    }
+
+    // Bloom filters cannot forget, so expired jtis are dropped by rebuilding from the live entries.
+    private synchronized void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), 0.01);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+
+    private static final class Expiry implements Delayed {
+
+        private final String jti;
+        private final long expiresAtMillis;
+
+        Expiry(String jti, Instant expiresAt) {
+            this.jti = jti;
+            this.expiresAtMillis = expiresAt.toEpochMilli();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAtMillis, ((Expiry) other).expiresAtMillis);
+        }
+    }
+}
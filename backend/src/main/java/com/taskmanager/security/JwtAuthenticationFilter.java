@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,18 +18,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    private static final Set<String> SENSITIVE_HEADERS = Set.of("authorization", "cookie");
 
     @Autowired
     private JwtTokenUtil jwtTokenUtil;
 
     @Autowired
-    private CustomUserDetailsService userDetailsService;
+    private PrincipalCache principalCache;
+
+    @Value("${security.principal.from-claims:false}")
+    private boolean principalFromClaims;
 
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
@@ -44,8 +52,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         String requestURI = request.getRequestURI();
         logger.debug("JWT Filter - Processing request: {} with method: {}", requestURI, request.getMethod());
-        logger.debug("JWT Filter - Request headers: {}", Collections.list(request.getHeaderNames()).stream()
-                .collect(Collectors.toMap(headerName -> headerName, request::getHeader)));
+        if (logger.isTraceEnabled()) {
+            logger.trace("JWT Filter - Request headers: {}", Collections.list(request.getHeaderNames()).stream()
+                    .filter(headerName -> !SENSITIVE_HEADERS.contains(headerName.toLowerCase(Locale.ROOT)))
+                    .collect(Collectors.toMap(headerName -> headerName, request::getHeader)));
+        }
         try {
             String jwt = getJwtFromRequest(request);
             logger.debug("Processing request: {}", requestURI);
@@ -56,17 +67,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            if (!jwtTokenUtil.validateToken(jwt)) {
+            Optional<TokenClaims> claims = jwtTokenUtil.validate(jwt);
+            if (claims.isEmpty()) {
                 logger.warn("Invalid JWT token");
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            String username = jwtTokenUtil.getUsernameFromToken(jwt);
+            String username = claims.get().getSubject();
             logger.debug("JWT token valid for user: {}", username);
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            logger.debug("User details loaded successfully for: {}", username);
+            UserDetails userDetails = principalFromClaims ? claims.get().toPrincipal() : null;
+            if (userDetails == null) {
+                userDetails = principalCache.getPrincipal(username);
+            }
+            logger.debug("User details resolved for: {}", username);
 
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails,
                     null, userDetails.getAuthorities());
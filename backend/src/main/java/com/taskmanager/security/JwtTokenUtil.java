@@ -1,22 +1,44 @@
 package com.taskmanager.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenUtil {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+
+    private static final List<String> DEFAULT_ROLES = List.of("ROLE_USER");
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -26,79 +48,123 @@ public class JwtTokenUtil {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
-    private final Map<String, Date> tokenBlacklist = new ConcurrentHashMap<>();
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheSize;
+
+    @Value("${jwt.verified-cache.ttl:1m}")
+    private Duration verifiedCacheTtl;
+
+    private final MeterRegistry meterRegistry;
+    private final TokenRevocationStore revocationStore;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private Cache<String, TokenClaims> verifiedTokens;
+    private Timer verifyTimer;
+
+    public JwtTokenUtil(MeterRegistry meterRegistry, TokenRevocationStore revocationStore) {
+        this.meterRegistry = meterRegistry;
+        this.revocationStore = revocationStore;
+    }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder().maximumSize(verifiedCacheSize).expireAfterWrite(verifiedCacheTtl)
+                .recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
+        verifyTimer = Timer.builder("auth.jwt.verify").description("JWT parse and signature verification")
+                .publishPercentileHistogram().register(meterRegistry);
     }
 
     public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), expiration);
+        return createToken(userClaims(userDetails), userDetails.getUsername(), expiration);
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
+        return createToken(userClaims(userDetails), userDetails.getUsername(), refreshExpiration);
+    }
+
+    private Map<String, Object> userClaims(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername(), refreshExpiration);
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            claims.put(USER_ID_CLAIM, authenticatedUser.getId());
+        }
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        return claims;
     }
 
     private String createToken(Map<String, Object> claims, String subject, Long expirationTime) {
-        return Jwts.builder().setClaims(claims).setSubject(subject).setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256).compact();
+        long now = System.currentTimeMillis();
+        return Jwts.builder().setClaims(claims).setSubject(subject).setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date(now)).setExpiration(new Date(now + expirationTime))
+                .signWith(signingKey, SignatureAlgorithm.HS256).compact();
     }
 
-    public Boolean validateToken(String token) {
-        try {
-            if (isTokenBlacklisted(token)) {
-                return false;
+    /**
+     * Verifies the token's signature and expiry once and returns its claims, or empty if the token is invalid,
+     * expired or revoked. Recently verified tokens are served from a digest-keyed cache without re-verifying.
+     */
+    public Optional<TokenClaims> validate(String token) {
+        String digest = digest(token);
+        TokenClaims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            long start = System.nanoTime();
+            try {
+                Claims body = parser.parseClaimsJws(token).getBody();
+                if (body.getExpiration() == null) {
+                    return Optional.empty();
+                }
+                claims = toTokenClaims(body, digest);
+            } catch (JwtException | IllegalArgumentException e) {
+                return Optional.empty();
+            } finally {
+                verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             }
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
+            verifiedTokens.put(digest, claims);
         }
+        if (claims.isExpired(Instant.now()) || revocationStore.isRevoked(claims.getJti())) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token) && !isTokenBlacklisted(token));
-    }
-
-    public void blacklistToken(String token) {
-        try {
-            Claims claims = getAllClaimsFromToken(token);
-            Date expiration = claims.getExpiration();
-            tokenBlacklist.put(token, expiration);
-        } catch (Exception e) {
-            // Token is invalid, no need to blacklist
-        }
+    public Boolean validateToken(String token) {
+        return validate(token).isPresent();
     }
 
-    private Boolean isTokenBlacklisted(String token) {
-        return tokenBlacklist.containsKey(token);
+    public Boolean validateToken(String token, UserDetails userDetails) {
+        return validate(token).map(claims -> claims.getSubject().equals(userDetails.getUsername())).orElse(false);
     }
 
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    public void blacklistToken(String token) {
+        validate(token).ifPresent(claims -> revocationStore.revoke(claims.getJti(), claims.getExpiresAt()));
     }
 
     public String getUsernameFromToken(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+        return validate(token).map(TokenClaims::getSubject).orElse(null);
     }
 
     public Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
+        return validate(token).map(claims -> Date.from(claims.getExpiresAt())).orElse(null);
     }
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
-        return claimsResolver.apply(claims);
+    // Tokens issued before jti was added are revoked by their digest instead.
+    private TokenClaims toTokenClaims(Claims claims, String digest) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        return new TokenClaims(claims.getSubject(), userId != null ? userId.longValue() : null,
+                claims.getExpiration().toInstant(), claims.getId() != null ? claims.getId() : digest,
+                roles != null ? roles.stream().map(Object::toString).toList() : DEFAULT_ROLES);
     }
 
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
-}
\ No newline at end of file
+}
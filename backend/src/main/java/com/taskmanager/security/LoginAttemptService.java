@@ -0,0 +1,57 @@
+package com.taskmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Failed-login counter per username and client address. After too many failures that pair is locked out until the
+ * lockout period passes, and its attempts are rejected before any BCrypt work is done. Keying by address means
+ * someone guessing from elsewhere cannot lock the owner out; the per-IP auth rate limit bounds guessing spread
+ * across many usernames.
+ */
+@Component
+public class LoginAttemptService {
+
+    private final int maxAttempts;
+    private final Cache<String, AtomicInteger> failures;
+
+    public LoginAttemptService(@Value("${security.login.max-attempts:5}") int maxAttempts,
+            @Value("${security.login.lockout-duration:900000}") long lockoutMillis) {
+        this.maxAttempts = maxAttempts;
+        this.failures = Caffeine.newBuilder().maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(lockoutMillis)).build();
+    }
+
+    public void checkAllowed(String username, ClientAddress client) {
+        AtomicInteger count = failures.getIfPresent(key(username, client));
+        if (count != null && count.get() >= maxAttempts) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many failed login attempts, try again later");
+        }
+    }
+
+    public void recordFailure(String username, ClientAddress client) {
+        String key = key(username, client);
+        AtomicInteger count = failures.get(key, k -> new AtomicInteger());
+        if (count.incrementAndGet() == maxAttempts) {
+            // Re-put so the lockout runs from the failure that started it; later failures do not extend it.
+            failures.put(key, count);
+        }
+    }
+
+    public void recordSuccess(String username, ClientAddress client) {
+        failures.invalidate(key(username, client));
+    }
+
+    private static String key(String username, ClientAddress client) {
+        return (username == null ? "" : username.toLowerCase(Locale.ROOT)) + "|" + client.value();
+    }
+}
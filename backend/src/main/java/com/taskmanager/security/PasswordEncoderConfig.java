@@ -0,0 +1,23 @@
+package com.taskmanager.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+// Shared by the servlet and reactive security configurations.
+@Configuration
+public class PasswordEncoderConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${security.password.bcrypt-strength:10}") String strength,
+            @Value("${security.password.target-hash-time:250ms}") Duration targetHashTime) {
+        int cost = "auto".equalsIgnoreCase(strength) ? BCryptStrengthTuner.tune(targetHashTime)
+                : Integer.parseInt(strength);
+        return new ExecutorPasswordEncoder(new BCryptPasswordEncoder(cost), passwordHashingExecutor);
+    }
+}
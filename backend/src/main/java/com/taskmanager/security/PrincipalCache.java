@@ -0,0 +1,49 @@
+package com.taskmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.event.UserCredentialsChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals so the JWT filter does not hit the database on
+ * every request. Entries are cached without the password hash. They only expire with the TTL until a flow
+ * publishes {@link UserCredentialsChangedEvent}.
+ */
+@Component
+public class PrincipalCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(CustomUserDetailsService userDetailsService, MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    public UserDetails getPrincipal(String username) {
+        return cache.get(username, name -> {
+            UserDetails loaded = userDetailsService.loadUserByUsername(name);
+            return loaded instanceof AuthenticatedUser user ? user.withoutPassword() : loaded;
+        });
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialsChanged(UserCredentialsChangedEvent event) {
+        invalidate(event.getUsername());
+    }
+}
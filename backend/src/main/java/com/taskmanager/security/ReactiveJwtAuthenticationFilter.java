@@ -0,0 +1,89 @@
+package com.taskmanager.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+
+/**
+ * Reactive counterpart of {@link JwtAuthenticationFilter}, added to the chain by {@link ReactiveSecurityConfig}.
+ * Token checks that may block (a revocation table lookup, loading the user) run on the bounded-elastic scheduler
+ * rather than the event loop; with principals built from claims and in-memory revocation they run inline.
+ */
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveJwtAuthenticationFilter.class);
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final PrincipalCache principalCache;
+    private final boolean principalFromClaims;
+    private final boolean blocking;
+
+    public ReactiveJwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, PrincipalCache principalCache,
+            TokenRevocationStore revocationStore, boolean principalFromClaims) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.principalCache = principalCache;
+        this.principalFromClaims = principalFromClaims;
+        this.blocking = !principalFromClaims || !(revocationStore instanceof InMemoryTokenRevocationStore);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        String jwt = getJwtFromRequest(exchange);
+        if (jwt == null || path.startsWith("/auth/") || path.startsWith("/api-docs")
+                || path.startsWith("/swagger-ui")) {
+            return chain.filter(exchange);
+        }
+
+        Mono<Optional<Authentication>> authentication = Mono.fromCallable(() -> authenticate(jwt));
+        if (blocking) {
+            authentication = authentication.subscribeOn(Schedulers.boundedElastic());
+        }
+        return authentication
+                .onErrorResume(e -> {
+                    logger.error("Cannot set user authentication: {}", e.getMessage(), e);
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(result -> {
+                    if (result.isEmpty()) {
+                        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                        return exchange.getResponse().setComplete();
+                    }
+                    return chain.filter(exchange)
+                            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(result.get()));
+                });
+    }
+
+    private Optional<Authentication> authenticate(String jwt) {
+        Optional<TokenClaims> claims = jwtTokenUtil.validate(jwt);
+        if (claims.isEmpty()) {
+            logger.warn("Invalid JWT token");
+            return Optional.empty();
+        }
+        UserDetails userDetails = principalFromClaims ? claims.get().toPrincipal() : null;
+        if (userDetails == null) {
+            userDetails = principalCache.getPrincipal(claims.get().getSubject());
+        }
+        return Optional.of(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private static String getJwtFromRequest(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
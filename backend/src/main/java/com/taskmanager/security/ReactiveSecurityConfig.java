@@ -0,0 +1,71 @@
+package com.taskmanager.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * Security for the reactive profile: the same public paths, CORS policy and JWT checks as {@link SecurityConfig}.
+ * Rate limiting is servlet-only.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    // Same status as the servlet chain gives a request without credentials
+    private static final ServerAuthenticationEntryPoint ENTRY_POINT =
+            new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN);
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtTokenUtil jwtTokenUtil,
+            PrincipalCache principalCache, TokenRevocationStore revocationStore,
+            @Value("${security.principal.from-claims:false}") boolean principalFromClaims) {
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(auth -> auth.pathMatchers("/auth/register", "/auth/login", "/auth/refresh",
+                        "/auth/logout", "/auth/availability").permitAll()
+                        .pathMatchers("/api-docs/**", "/swagger-ui/**").permitAll()
+                        .pathMatchers("/actuator/health/**", "/actuator/prometheus", "/actuator/startup").permitAll()
+                        .pathMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .anyExchange().authenticated())
+                .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(ENTRY_POINT))
+                .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtTokenUtil, principalCache, revocationStore,
+                        principalFromClaims), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private static CorsConfigurationSource corsConfigurationSource() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", SecurityConfig.corsConfiguration());
+        return source;
+    }
+
+    // A failed login in AuthController; the servlet chain sends these through its entry point as well.
+    @Bean
+    @Order(-2) // ahead of Boot's error handler
+    public WebExceptionHandler authenticationExceptionHandler() {
+        return (exchange, e) -> e instanceof AuthenticationException authenticationException
+                ? ENTRY_POINT.commence(exchange, authenticationException) : Mono.error(e);
+    }
+}
@@ -1,14 +1,17 @@
 package com.taskmanager.security;
 
+import com.taskmanager.ratelimit.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnNotWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -22,16 +25,21 @@ import org.slf4j.LoggerFactory;
 import java.util.Arrays;
 import java.util.List;
 
+// Servlet (Spring MVC) mode, and non-web contexts such as the benchmarks that drive the filter chain directly;
+// the reactive profile uses ReactiveSecurityConfig instead.
 @Configuration
 @EnableWebSecurity
+@Conditional(SecurityConfig.ServletOrNonWebCondition.class)
 public class SecurityConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -41,13 +49,18 @@ public class SecurityConfig {
             cors.configurationSource(corsConfigurationSource());
         }).authorizeHttpRequests(auth -> {
             logger.debug("Configuring authorization rules");
-            auth.requestMatchers("/error").permitAll().requestMatchers("/auth/register").permitAll()
+            // Streaming responses complete on an ASYNC dispatch; the initial request was already authorized.
+            auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                    .requestMatchers("/error").permitAll().requestMatchers("/auth/register").permitAll()
                     .requestMatchers("/auth/login").permitAll().requestMatchers("/auth/refresh").permitAll()
-                    .requestMatchers("/auth/logout").permitAll().requestMatchers("/api-docs/**", "/swagger-ui/**")
-                    .permitAll().requestMatchers(HttpMethod.OPTIONS, "/**").permitAll().requestMatchers("/**")
+                    .requestMatchers("/auth/logout").permitAll().requestMatchers("/auth/availability").permitAll()
+                    .requestMatchers("/api-docs/**", "/swagger-ui/**").permitAll()
+                    .requestMatchers("/actuator/health/**", "/actuator/prometheus", "/actuator/startup").permitAll()
+                    .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll().requestMatchers("/**")
                     .authenticated();
         }).sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         SecurityFilterChain filterChain = http.build();
         logger.debug("Filter chain order: {}", filterChain.getFilters());
@@ -57,6 +70,12 @@ public class SecurityConfig {
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         logger.debug("Creating CORS configuration");
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", corsConfiguration());
+        return source;
+    }
+
+    static CorsConfiguration corsConfiguration() {
         CorsConfiguration configuration = new CorsConfiguration();
         List<String> allowedOrigins = List.of("http://localhost", "http://localhost:4200", "http://localhost:80",
                 "http://127.0.0.1", "http://127.0.0.1:4200", "http://frontend", "http://frontend:80");
@@ -64,23 +83,35 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(allowedOrigins);
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(
-                Arrays.asList("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+                Arrays.asList("Authorization", "Content-Type", "Accept", "Origin", "X-Requested-With", "If-Match",
+                        "If-None-Match", "Last-Event-ID"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag", "RateLimit-Limit",
+                "RateLimit-Remaining", "RateLimit-Reset", "RateLimit-Policy", "Retry-After"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
-
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/**", configuration);
-        return source;
+        return configuration;
     }
 
+    // The rate limiter runs inside the security chain, after CORS; keep Boot from also mapping it on the container.
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig) throws Exception {
-        return authConfig.getAuthenticationManager();
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    static class ServletOrNonWebCondition extends AnyNestedCondition {
+
+        ServletOrNonWebCondition() {
+            super(ConfigurationPhase.PARSE_CONFIGURATION);
+        }
+
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        static class OnServlet {
+        }
+
+        @ConditionalOnNotWebApplication
+        static class OnNonWeb {
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.taskmanager.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Verified, immutable view of a JWT's claims, produced once per token by {@link JwtTokenUtil#validate(String)}.
+ */
+public final class TokenClaims {
+
+    private final String subject;
+    private final Long userId;
+    private final Instant expiresAt;
+    private final String jti;
+    private final List<String> roles;
+
+    public TokenClaims(String subject, Long userId, Instant expiresAt, String jti, List<String> roles) {
+        this.subject = subject;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.jti = jti;
+        this.roles = List.copyOf(roles);
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * Builds a principal from the claims alone, or returns null for tokens issued without a user id.
+     */
+    public AuthenticatedUser toPrincipal() {
+        if (userId == null) {
+            return null;
+        }
+        return new AuthenticatedUser(userId, subject, null, null,
+                roles.stream().map(SimpleGrantedAuthority::new).toList());
+    }
+}
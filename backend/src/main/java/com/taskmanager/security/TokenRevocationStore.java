@@ -0,0 +1,13 @@
+package com.taskmanager.security;
+
+import java.time.Instant;
+
+/**
+ * Records revoked tokens by their {@code jti} until the token would have expired anyway.
+ */
+public interface TokenRevocationStore {
+
+    void revoke(String jti, Instant expiresAt);
+
+    boolean isRevoked(String jti);
+}
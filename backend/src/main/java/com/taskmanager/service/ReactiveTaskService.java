@@ -0,0 +1,115 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.model.TaskSort;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.ReactiveTaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Task operations for the reactive profile. Transactions run on an R2DBC transaction manager kept private to this
+ * service, so {@code @Transactional} elsewhere still resolves to JPA. Writes here do not go through
+ * {@link TaskListCache} or {@link TaskChangeFeed}; both serve servlet-mode endpoints only.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final TransactionalOperator readOnlyOperator;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository, DatabaseClient databaseClient,
+            @Value("${tasks.page.default-size:50}") int defaultPageSize,
+            @Value("${tasks.page.max-size:200}") int maxPageSize) {
+        this.taskRepository = taskRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        R2dbcTransactionManager transactionManager = new R2dbcTransactionManager(
+                databaseClient.getConnectionFactory());
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        DefaultTransactionDefinition readOnly = new DefaultTransactionDefinition();
+        readOnly.setReadOnly(true);
+        this.readOnlyOperator = TransactionalOperator.create(transactionManager, readOnly);
+    }
+
+    public Mono<TaskDto> createTask(TaskRequest request, Long userId) {
+        return taskRepository.reserveChangeSeq(userId, 1)
+                .flatMap(changeSeq -> taskRepository.insert(request, userId, changeSeq))
+                .as(transactionalOperator::transactional);
+    }
+
+    // Rows are emitted as the cursor advances; the read-only transaction keeps one snapshot for the whole list.
+    public Flux<TaskDto> getAllTasks(Long userId, TaskSort sort) {
+        return taskRepository.findByUserId(userId, sort).as(readOnlyOperator::transactional);
+    }
+
+    public Mono<TaskPage> getTaskPage(Long userId, TaskSort sort, String cursor, Integer limit) {
+        int size = Math.min(limit != null && limit > 0 ? limit : defaultPageSize, maxPageSize);
+        TaskCursor after = cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor, sort) : null;
+
+        // One extra row tells whether another page exists, as in TaskService.
+        return taskRepository.findPage(userId, sort, after != null ? after.getDueDate() : null,
+                        after != null ? after.getId() : null, size + 1)
+                .collectList()
+                .map(rows -> {
+                    boolean hasMore = rows.size() > size;
+                    List<TaskDto> page = hasMore ? rows.subList(0, size) : rows;
+                    String nextCursor = hasMore ? TaskCursor.after(sort, page.get(page.size() - 1)).encode() : null;
+                    return new TaskPage(page, nextCursor);
+                });
+    }
+
+    public Flux<TaskDto> getTasksByStatus(Long userId, TaskStatus status) {
+        return taskRepository.findByUserIdAndStatus(userId, status).as(readOnlyOperator::transactional);
+    }
+
+    public Mono<TaskDto> getTaskById(Long id, Long userId) {
+        return taskRepository.findByIdAndUserId(id, userId).switchIfEmpty(Mono.error(taskNotFound()));
+    }
+
+    /**
+     * Replaces the task's fields in one conditional UPDATE. If nothing matches, the task is read to tell a missing
+     * task (404) from a version conflict with {@code expectedVersion} (412).
+     */
+    public Mono<TaskDto> updateTask(Long id, TaskRequest request, Long userId, Long expectedVersion) {
+        return taskRepository.reserveChangeSeq(userId, 1)
+                .flatMap(changeSeq -> taskRepository.update(id, request, userId, changeSeq, expectedVersion))
+                .switchIfEmpty(Mono.defer(() -> taskRepository.findByIdAndUserId(id, userId)
+                        .switchIfEmpty(Mono.error(taskNotFound()))
+                        .flatMap(task -> Mono.error(versionConflict(task.getVersion())))))
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Void> deleteTask(Long id, Long userId) {
+        return taskRepository.reserveChangeSeq(userId, 1)
+                .flatMap(changeSeq -> taskRepository.softDelete(id, userId, changeSeq))
+                .flatMap(deleted -> deleted == 0 ? Mono.<Void>error(taskNotFound()) : Mono.<Void>empty())
+                .as(transactionalOperator::transactional);
+    }
+
+    private static ResponseStatusException taskNotFound() {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+    }
+
+    private static ResponseStatusException versionConflict(Long currentVersion) {
+        return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                "Task was modified concurrently; current version is " + currentVersion);
+    }
+}
@@ -0,0 +1,349 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskChange;
+import com.taskmanager.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user task change feed delivered over Server-Sent Events.
+ *
+ * <p>Committed changes are numbered per user and kept in a short history so a reconnecting client can resume from
+ * its Last-Event-ID. Event ids are {@code <epoch>-<seq>}; the epoch is random per feed, so ids from before a
+ * restart or an evicted feed are recognised and answered with a {@code reset} event (refetch the list).
+ *
+ * <p>Each subscriber has a pending map keyed by task id, so bursts of edits to one task collapse into the latest
+ * change. Pending changes are flushed on a short interval by a small sender pool; idle connections hold no thread.
+ * A subscriber that falls too far behind has its backlog dropped and receives {@code reset} instead.
+ */
+@Component
+public class TaskChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    private final Map<Long, UserFeed> feeds = new ConcurrentHashMap<>();
+    private final Set<Subscriber> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService senders;
+
+    private final Duration emitterTimeout;
+    private final int historySize;
+    private final int maxPending;
+    private final int maxSubscribersPerUser;
+    private final int maxSubscribers;
+    private final long idleRetentionMillis;
+
+    public TaskChangeFeed(MeterRegistry meterRegistry,
+            @Value("${tasks.changes.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${tasks.changes.coalesce-window:200ms}") Duration coalesceWindow,
+            @Value("${tasks.changes.heartbeat-interval:30s}") Duration heartbeatInterval,
+            @Value("${tasks.changes.history-size:1000}") int historySize,
+            @Value("${tasks.changes.max-pending:1000}") int maxPending,
+            @Value("${tasks.changes.max-subscribers-per-user:10}") int maxSubscribersPerUser,
+            @Value("${tasks.changes.max-subscribers:20000}") int maxSubscribers,
+            @Value("${tasks.changes.idle-retention:5m}") Duration idleRetention,
+            @Value("${tasks.changes.sender-threads:4}") int senderThreads) {
+        this.emitterTimeout = emitterTimeout;
+        this.historySize = historySize;
+        this.maxPending = maxPending;
+        this.maxSubscribersPerUser = maxSubscribersPerUser;
+        this.maxSubscribers = maxSubscribers;
+        this.idleRetentionMillis = idleRetention.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("task-feed-scheduler"));
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemon("task-feed-sender"));
+        scheduler.scheduleWithFixedDelay(this::flushDirty, coalesceWindow.toMillis(), coalesceWindow.toMillis(),
+                TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval.toMillis(), heartbeatInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::evictIdleFeeds, idleRetention.toMillis(), idleRetention.toMillis(),
+                TimeUnit.MILLISECONDS);
+        Gauge.builder("tasks.changes.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many change feed subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        UserFeed feed = feeds.computeIfAbsent(userId, id -> new UserFeed());
+        synchronized (feed) {
+            if (feed.subscribers.size() >= maxSubscribersPerUser) {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many change feeds open");
+            }
+            feed.replayInto(subscriber, lastEventId);
+            feed.subscribers.add(subscriber);
+            feed.idleSince = 0;
+        }
+        subscriberCount.incrementAndGet();
+        Runnable remove = () -> unsubscribe(userId, feed, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        markDirty(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        UserFeed feed = feeds.get(event.getUserId());
+        if (feed == null) {
+            return;
+        }
+        List<Subscriber> notify;
+        synchronized (feed) {
+            long seq = ++feed.seq;
+            Change change = new Change(seq, feed.id(seq), event.getChange());
+            feed.history.addLast(change);
+            if (feed.history.size() > historySize) {
+                feed.history.removeFirst();
+            }
+            for (Subscriber subscriber : feed.subscribers) {
+                subscriber.offer(change);
+            }
+            notify = feed.subscribers;
+        }
+        notify.forEach(this::markDirty);
+    }
+
+    /**
+     * Sends the user's subscribers a reset instead of individual changes, for bulk writes such as imports. The
+     * history is dropped too, so clients resuming from before this point are reset as well.
+     */
+    public void reset(Long userId) {
+        UserFeed feed = feeds.get(userId);
+        if (feed == null) {
+            return;
+        }
+        List<Subscriber> notify;
+        synchronized (feed) {
+            String id = feed.id(++feed.seq);
+            feed.history.clear();
+            for (Subscriber subscriber : feed.subscribers) {
+                subscriber.requestReset(id);
+            }
+            notify = feed.subscribers;
+        }
+        notify.forEach(this::markDirty);
+    }
+
+    private void unsubscribe(Long userId, UserFeed feed, Subscriber subscriber) {
+        synchronized (feed) {
+            if (!feed.subscribers.remove(subscriber)) {
+                return;
+            }
+            if (feed.subscribers.isEmpty()) {
+                feed.idleSince = System.currentTimeMillis();
+            }
+        }
+        subscriberCount.decrementAndGet();
+        dirty.remove(subscriber);
+    }
+
+    private void markDirty(Subscriber subscriber) {
+        if (!subscriber.closed && subscriber.hasPending()) {
+            dirty.add(subscriber);
+        }
+    }
+
+    private void flushDirty() {
+        for (Subscriber subscriber : dirty) {
+            if (subscriber.sending.compareAndSet(false, true)) {
+                dirty.remove(subscriber);
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Pending pending;
+            while ((pending = subscriber.take()) != null) {
+                if (pending.reset) {
+                    subscriber.emitter.send(SseEmitter.event().id(pending.lastId).name("reset").data(""));
+                }
+                for (Change change : pending.changes) {
+                    subscriber.emitter.send(SseEmitter.event().id(change.id()).name("task")
+                            .data(change.change(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The container reports the failed write and completes the emitter, which unsubscribes it.
+            logger.debug("Dropping change feed subscriber: {}", e.getMessage());
+            subscriber.closed = true;
+        } finally {
+            subscriber.sending.set(false);
+            markDirty(subscriber);
+        }
+    }
+
+    private void heartbeat() {
+        for (UserFeed feed : feeds.values()) {
+            for (Subscriber subscriber : feed.subscribers) {
+                if (subscriber.sending.compareAndSet(false, true)) {
+                    senders.execute(() -> {
+                        try {
+                            subscriber.emitter.send(SseEmitter.event().comment(""));
+                        } catch (IOException | IllegalStateException e) {
+                            subscriber.closed = true;
+                        } finally {
+                            subscriber.sending.set(false);
+                            markDirty(subscriber);
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    private void evictIdleFeeds() {
+        long cutoff = System.currentTimeMillis() - idleRetentionMillis;
+        feeds.values().removeIf(feed -> {
+            synchronized (feed) {
+                return feed.subscribers.isEmpty() && feed.idleSince != 0 && feed.idleSince < cutoff;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        feeds.values().forEach(feed -> feed.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Change(long seq, String id, TaskChange change) {
+    }
+
+    private record Pending(boolean reset, String lastId, List<Change> changes) {
+    }
+
+    private static final class UserFeed {
+        final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+        final ArrayDeque<Change> history = new ArrayDeque<>();
+        final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        long seq;
+        long idleSince = System.currentTimeMillis();
+
+        String id(long sequence) {
+            return epoch + "-" + sequence;
+        }
+
+        /** Queues the changes a resuming client missed, or a reset if they are no longer available. */
+        void replayInto(Subscriber subscriber, String lastEventId) {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return;
+            }
+            long after = parseSeq(lastEventId);
+            long oldest = history.isEmpty() ? seq + 1 : history.peekFirst().seq();
+            if (after < 0 || after > seq || after + 1 < oldest) {
+                subscriber.requestReset(id(seq));
+                return;
+            }
+            for (Change change : history) {
+                if (change.seq() > after) {
+                    subscriber.offer(change);
+                }
+            }
+        }
+
+        private long parseSeq(String lastEventId) {
+            int separator = lastEventId.indexOf('-');
+            if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+                return -1;
+            }
+            try {
+                return Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile boolean closed;
+        private LinkedHashMap<Long, Change> pending = new LinkedHashMap<>();
+        private String resetId;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void offer(Change change) {
+            Long taskId = change.change().getTaskId();
+            // Re-insert so the task moves to the position of its latest change.
+            Change previous = pending.remove(taskId);
+            if (previous == null && pending.size() >= maxPending) {
+                requestReset(change.id());
+                return;
+            }
+            if (previous != null && previous.change().getType() == TaskChange.Type.CREATED
+                    && change.change().getType() == TaskChange.Type.UPDATED) {
+                // The client has not seen the task yet, so it is still a creation.
+                change = new Change(change.seq(), change.id(),
+                        new TaskChange(TaskChange.Type.CREATED, taskId, change.change().getTask()));
+            }
+            pending.put(taskId, change);
+        }
+
+        synchronized void requestReset(String id) {
+            pending.clear();
+            resetId = id;
+        }
+
+        synchronized boolean hasPending() {
+            return resetId != null || !pending.isEmpty();
+        }
+
+        synchronized Pending take() {
+            if (!hasPending()) {
+                return null;
+            }
+            Pending taken = new Pending(resetId != null, resetId, new ArrayList<>(pending.values()));
+            pending = new LinkedHashMap<>();
+            resetId = null;
+            return taken;
+        }
+    }
+}
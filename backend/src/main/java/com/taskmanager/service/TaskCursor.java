@@ -0,0 +1,72 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskSort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position: the sort order plus the (dueDate, id) of the last row returned.
+ */
+final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final TaskSort sort;
+    private final LocalDateTime dueDate;
+    private final long id;
+
+    private TaskCursor(TaskSort sort, LocalDateTime dueDate, long id) {
+        this.sort = sort;
+        this.dueDate = dueDate;
+        this.id = id;
+    }
+
+    static TaskCursor after(TaskSort sort, Task task) {
+        return new TaskCursor(sort, task.getDueDate(), task.getId());
+    }
+
+    static TaskCursor after(TaskSort sort, TaskDto task) {
+        return new TaskCursor(sort, task.getDueDate(), task.getId());
+    }
+
+    TaskSort getSort() {
+        return sort;
+    }
+
+    LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    String encode() {
+        String raw = sort.name() + SEPARATOR + (dueDate != null ? dueDate.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskCursor decode(String token, TaskSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            TaskSort sort = TaskSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort order");
+            }
+            LocalDateTime dueDate = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new TaskCursor(sort, dueDate, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+}
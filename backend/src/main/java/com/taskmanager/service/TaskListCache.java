@@ -0,0 +1,89 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.dto.TaskDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of per-user task lists and other derived views, such as dashboard statistics. Every user has a
+ * version that mutations bump once their transaction commits; cached lists are keyed by that version, so a bump makes
+ * all of the user's older lists unreachable. Versions come from one global counter, so a user whose version entry
+ * was evicted never reuses an old value. Versions are local to this instance; the TTL bounds staleness from writes
+ * made on other replicas.
+ */
+@Component
+public class TaskListCache {
+
+    private final AtomicLong versionCounter = new AtomicLong();
+    private final Cache<Long, Long> versions;
+    private final Cache<Key, List<TaskDto>> lists;
+    private final Cache<Key, Object> views;
+
+    public TaskListCache(MeterRegistry meterRegistry,
+            @Value("${tasks.cache.max-users:100000}") long maxUsers,
+            @Value("${tasks.cache.max-tasks:1000000}") long maxTasks,
+            @Value("${tasks.cache.ttl:1m}") Duration ttl) {
+        this.versions = Caffeine.newBuilder().maximumSize(maxUsers).build();
+        this.lists = Caffeine.newBuilder().maximumWeight(maxTasks)
+                .weigher((Key key, List<TaskDto> tasks) -> tasks.size() + 1)
+                .expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lists, "taskLists");
+        this.views = Caffeine.newBuilder().maximumSize(maxUsers).expireAfterWrite(ttl).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "taskViews");
+    }
+
+    public long version(Long userId) {
+        return versions.get(userId, id -> versionCounter.incrementAndGet());
+    }
+
+    public List<TaskDto> get(Long userId, String listKey, Supplier<List<TaskDto>> loader) {
+        return lists.get(new Key(userId, version(userId), listKey), key -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * Caches a small value computed from the user's tasks, under the same version as their lists.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getView(Long userId, String viewKey, Supplier<T> loader) {
+        return (T) views.get(new Key(userId, version(userId), viewKey), key -> loader.get());
+    }
+
+    // Weak, since the same list may be sent as JSON, CBOR or Smile and compressed or not.
+    public String etag(Long userId, String listKey) {
+        return "W/\"" + Long.toHexString(version(userId)) + "-" + listKey + "\"";
+    }
+
+    /**
+     * Bumps the user's version after the current transaction commits, or immediately outside a transaction.
+     */
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(userId);
+                }
+            });
+        } else {
+            bump(userId);
+        }
+    }
+
+    private void bump(Long userId) {
+        versions.put(userId, versionCounter.incrementAndGet());
+    }
+
+    private record Key(Long userId, long version, String listKey) {
+    }
+}
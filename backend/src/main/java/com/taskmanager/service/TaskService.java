@@ -1,60 +1,556 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.TaskBatchOperation;
+import com.taskmanager.dto.TaskBatchResult;
+import com.taskmanager.dto.TaskChange;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskPage;
+import com.taskmanager.dto.TaskSearchCriteria;
+import com.taskmanager.dto.TaskSearchResult;
+import com.taskmanager.dto.TaskStats;
+import com.taskmanager.dto.TaskPatch;
+import com.taskmanager.dto.TaskRequest;
+import com.taskmanager.dto.TaskSyncResponse;
+import com.taskmanager.event.TaskChangedEvent;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskSort;
 import com.taskmanager.model.TaskStatus;
 import com.taskmanager.model.User;
 import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSearchRepository;
+import com.taskmanager.repository.TaskStatsRepository;
+import com.taskmanager.repository.TaskTransferRepository;
+import com.taskmanager.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
+@Timed(value = "task.service", histogram = true)
 public class TaskService {
 
+    private static final String ALL_TASKS = "all";
+
     private final TaskRepository taskRepository;
-    private final UserService userService;
+    private final TaskSearchRepository taskSearchRepository;
+    private final TaskStatsRepository taskStatsRepository;
+    private final TaskTransferRepository taskTransferRepository;
+    private final UserRepository userRepository;
+    private final TaskListCache taskListCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${tasks.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${tasks.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${tasks.batch.max-size:5000}")
+    private int maxBatchSize;
+
+    @Value("${tasks.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${tasks.stats.max-histogram-buckets:366}")
+    private int maxHistogramBuckets;
+
+    @Value("${tasks.sync.default-size:500}")
+    private int defaultSyncSize;
+
+    @Value("${tasks.sync.max-size:2000}")
+    private int maxSyncSize;
 
-    public TaskService(TaskRepository taskRepository, UserService userService) {
+    public TaskService(TaskRepository taskRepository, TaskSearchRepository taskSearchRepository,
+            TaskStatsRepository taskStatsRepository, TaskTransferRepository taskTransferRepository,
+            UserRepository userRepository, TaskListCache taskListCache, ApplicationEventPublisher eventPublisher,
+            Validator validator) {
         this.taskRepository = taskRepository;
-        this.userService = userService;
+        this.taskStatsRepository = taskStatsRepository;
+        this.taskTransferRepository = taskTransferRepository;
+        this.userRepository = userRepository;
+        this.taskSearchRepository = taskSearchRepository;
+        this.taskListCache = taskListCache;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
     }
 
-    public Task createTask(Task task, String username) {
-        User user = userService.findByUsername(username);
-        task.setUser(user);
-        return taskRepository.save(task);
+    public TaskDto createTask(TaskRequest request, Long userId) {
+        Task task = new Task();
+        applyFields(task, request);
+        task.setUser(entityManager.getReference(User.class, userId));
+        task.setChangeSeq(reserveChangeSeq(userId, 1));
+        taskListCache.invalidate(userId);
+        TaskDto created = TaskDto.from(taskRepository.save(task));
+        publishChange(userId, TaskChange.Type.CREATED, created.getId(), created);
+        return created;
     }
 
-    public List<Task> getAllTasks(String username) {
-        User user = userService.findByUsername(username);
-        return taskRepository.findByUser(user);
+    @Transactional(readOnly = true)
+    public List<TaskDto> getAllTasks(Long userId) {
+        return taskListCache.get(userId, ALL_TASKS, () -> toDtos(taskRepository.findByUserId(userId)));
     }
 
-    public Task getTaskById(Long id, String username) {
-        User user = userService.findByUsername(username);
-        return taskRepository.findById(id)
-                .filter(task -> task.getUser().equals(user))
-                .orElseThrow(() -> new RuntimeException("Task not found"));
+    @Transactional(readOnly = true)
+    public String getAllTasksEtag(Long userId) {
+        return taskListCache.etag(userId, ALL_TASKS);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage getTaskPage(Long userId, TaskSort sort, String cursor, Integer limit) {
+        int size = Math.min(limit != null && limit > 0 ? limit : defaultPageSize, maxPageSize);
+        TaskCursor after = cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor, sort) : null;
+
+        // Fetch one extra row to learn whether another page exists without a count query.
+        List<Task> rows = sort == TaskSort.DUE_DATE
+                ? findDueDatePage(userId, after, size + 1)
+                : taskRepository.findPageById(userId, after != null ? after.getId() : 0L,
+                        PageRequest.ofSize(size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<Task> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? TaskCursor.after(sort, page.get(page.size() - 1)).encode() : null;
+        return new TaskPage(toDtos(page), nextCursor);
+    }
+
+    private List<Task> findDueDatePage(Long userId, TaskCursor after, int fetchSize) {
+        // Tasks with a due date come first in (dueDate, id) order, undated tasks follow in id order.
+        if (after != null && after.getDueDate() == null) {
+            return taskRepository.findPageWithoutDueDate(userId, after.getId(), PageRequest.ofSize(fetchSize));
+        }
+        List<Task> rows = new ArrayList<>(after == null
+                ? taskRepository.findFirstPageByDueDate(userId, PageRequest.ofSize(fetchSize))
+                : taskRepository.findPageByDueDate(userId, after.getDueDate(), after.getId(),
+                        PageRequest.ofSize(fetchSize)));
+        if (rows.size() < fetchSize) {
+            rows.addAll(taskRepository.findPageWithoutDueDate(userId, 0L,
+                    PageRequest.ofSize(fetchSize - rows.size())));
+        }
+        return rows;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSearchResult searchTasks(Long userId, TaskSearchCriteria criteria) {
+        int size = Math.min(criteria.getSize() != null && criteria.getSize() > 0 ? criteria.getSize()
+                : defaultPageSize, maxPageSize);
+        int page = Math.max(criteria.getPage(), 0);
+        long total = taskSearchRepository.count(userId, criteria);
+        List<TaskDto> items = total > (long) page * size
+                ? taskSearchRepository.find(userId, criteria, page * size, size)
+                : List.of();
+        return new TaskSearchResult(total, page, size, items);
+    }
+
+    /**
+     * Dashboard counts, plus a due-date histogram when an interval is given. The histogram defaults to the next
+     * 30 days or 12 weeks and includes empty buckets. Results are cached until the user's tasks change, and for at
+     * most the cache TTL, which also bounds how stale the time-dependent overdue count can get.
+     */
+    @Transactional(readOnly = true)
+    public TaskStats getStats(Long userId, TaskStats.Interval interval, LocalDate from, LocalDate to) {
+        if (interval == null) {
+            return taskListCache.getView(userId, "stats",
+                    () -> taskStatsRepository.countByStatus(userId, LocalDateTime.now()));
+        }
+        LocalDate start = bucketStart(interval, from != null ? from : LocalDate.now());
+        // An unaligned end is rounded up to the next Monday so the last week is counted in full
+        LocalDate end = to != null ? bucketStart(interval, interval == TaskStats.Interval.DAY ? to : to.plusDays(6))
+                : interval == TaskStats.Interval.DAY ? start.plusDays(30) : start.plusWeeks(12);
+        long buckets = interval == TaskStats.Interval.DAY ? ChronoUnit.DAYS.between(start, end)
+                : ChronoUnit.WEEKS.between(start, end);
+        if (buckets <= 0 || buckets > maxHistogramBuckets) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Histogram range must cover 1 to " + maxHistogramBuckets + " buckets");
+        }
+        return taskListCache.getView(userId, "stats-" + interval + "-" + start + "-" + end, () -> {
+            TaskStats stats = taskStatsRepository.countByStatus(userId, LocalDateTime.now());
+            // Days are folded into weeks here so week boundaries do not depend on the database's date_trunc.
+            Map<LocalDate, Long> counts = new HashMap<>();
+            taskStatsRepository.countByDueDay(userId, start, end)
+                    .forEach((day, count) -> counts.merge(bucketStart(interval, day), count, Long::sum));
+            List<TaskStats.Bucket> histogram = new ArrayList<>();
+            for (LocalDate bucket = start; bucket.isBefore(end); bucket = interval == TaskStats.Interval.DAY
+                    ? bucket.plusDays(1) : bucket.plusWeeks(1)) {
+                histogram.add(new TaskStats.Bucket(bucket, counts.getOrDefault(bucket, 0L)));
+            }
+            stats.setDueHistogram(histogram);
+            return stats;
+        });
+    }
+
+    // Weeks start on Monday.
+    private static LocalDate bucketStart(TaskStats.Interval interval, LocalDate date) {
+        return interval == TaskStats.Interval.WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date;
+    }
+
+    @Transactional(readOnly = true)
+    public void streamTasks(Long userId, TaskSort sort, Consumer<TaskDto> sink) {
+        try (Stream<Task> tasks = sort == TaskSort.DUE_DATE
+                ? taskRepository.streamByUserOrderByDueDate(userId)
+                : taskRepository.streamByUserOrderById(userId)) {
+            tasks.forEach(task -> {
+                sink.accept(TaskDto.from(task));
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    /**
+     * Exports the user's tasks through a JDBC cursor; rows are mapped straight to DTOs and never become entities.
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(Long userId, Consumer<TaskDto> sink) {
+        taskTransferRepository.forEachTask(userId, sink);
     }
 
-    public Task updateTask(Long id, Task taskDetails, String username) {
-        Task task = getTaskById(id, username);
-        task.setTitle(taskDetails.getTitle());
-        task.setDescription(taskDetails.getDescription());
-        task.setStatus(taskDetails.getStatus());
-        task.setDueDate(taskDetails.getDueDate());
-        return taskRepository.save(task);
+    /**
+     * Inserts one chunk of imported tasks, which must already be valid, in a single JDBC batch. Imported tasks
+     * are not published to the change feed one by one; see {@link TaskTransferService}.
+     */
+    public void importTasks(List<TaskRequest> tasks, Long userId) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        taskTransferRepository.insert(userId, tasks, reserveChangeSeq(userId, tasks.size()));
+        taskListCache.invalidate(userId);
     }
 
-    public void deleteTask(Long id, String username) {
-        Task task = getTaskById(id, username);
-        taskRepository.delete(task);
+    /**
+     * Returns the tasks changed after {@code since}, in change order, with deleted tasks reported by id. A client
+     * stores the returned cursor and passes it as {@code since} on its next sync.
+     */
+    @Transactional(readOnly = true)
+    public TaskSyncResponse syncTasks(Long userId, long since, Integer limit) {
+        if (since < userRepository.findSyncFloor(userId)) {
+            return new TaskSyncResponse(List.of(), List.of(), userRepository.findChangeSeq(userId), false, true);
+        }
+        int size = Math.min(limit != null && limit > 0 ? limit : defaultSyncSize, maxSyncSize);
+        List<Task> rows = taskRepository.findChangedSince(userId, since, size + 1);
+        boolean hasMore = rows.size() > size;
+        List<TaskDto> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        long cursor = since;
+        for (Task task : hasMore ? rows.subList(0, size) : rows) {
+            if (task.isDeleted()) {
+                deleted.add(task.getId());
+            } else {
+                changed.add(TaskDto.from(task));
+            }
+            cursor = task.getChangeSeq();
+        }
+        return new TaskSyncResponse(changed, deleted, cursor, hasMore, false);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskDto getTaskById(Long id, Long userId) {
+        return TaskDto.from(findOwnedTask(id, userId));
+    }
+
+    /**
+     * Replaces the task's fields. When {@code expectedVersion} is given (from If-Match) and the task has moved on,
+     * the update is refused with 412; a concurrent write that lands between the read and the flush is caught by
+     * the {@code @Version} check instead.
+     */
+    public TaskDto updateTask(Long id, TaskRequest request, Long userId, Long expectedVersion) {
+        Task task = findOwnedTask(id, userId);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw versionConflict(task.getVersion());
+        }
+        applyFields(task, request);
+        task.setChangeSeq(reserveChangeSeq(userId, 1));
+        taskListCache.invalidate(userId);
+        // Flush now so the returned version (the new ETag) is the one written.
+        TaskDto updated = TaskDto.from(taskRepository.saveAndFlush(task));
+        publishChange(userId, TaskChange.Type.UPDATED, id, updated);
+        return updated;
+    }
+
+    /**
+     * Applies only the fields present in the patch with a single conditional UPDATE, without loading the task
+     * first. With {@code expectedVersion} the update only matches that version; if nothing matches, the task is
+     * read to tell a missing task from a version conflict (412).
+     */
+    public TaskDto patchTask(Long id, TaskPatch patch, Long userId, Long expectedVersion) {
+        if (patch.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No fields to update");
+        }
+        if (patch.has(TaskPatch.TITLE) && (patch.getTitle() == null || patch.getTitle().isBlank())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title is required");
+        }
+        if (patch.has(TaskPatch.STATUS) && patch.getStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status is required");
+        }
+        // The same length limits TaskRequest has for PUT; otherwise the UPDATE itself fails
+        for (String field : List.of(TaskPatch.TITLE, TaskPatch.DESCRIPTION)) {
+            Set<ConstraintViolation<TaskPatch>> violations = patch.has(field)
+                    ? validator.validateProperty(patch, field) : Set.of();
+            if (!violations.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        field + " " + violations.iterator().next().getMessage());
+            }
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+        if (patch.has(TaskPatch.TITLE)) {
+            update.set(root.<String>get("title"), patch.getTitle());
+        }
+        if (patch.has(TaskPatch.DESCRIPTION)) {
+            update.set(root.<String>get("description"), patch.getDescription() != null
+                    ? cb.literal(patch.getDescription()) : cb.nullLiteral(String.class));
+        }
+        if (patch.has(TaskPatch.STATUS)) {
+            update.set(root.<TaskStatus>get("status"), patch.getStatus());
+        }
+        if (patch.has(TaskPatch.DUE_DATE)) {
+            update.set(root.<LocalDateTime>get("dueDate"), patch.getDueDate() != null
+                    ? cb.literal(patch.getDueDate()) : cb.nullLiteral(LocalDateTime.class));
+        }
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.set(root.<Long>get("changeSeq"), reserveChangeSeq(userId, 1));
+
+        List<Predicate> where = new ArrayList<>(List.of(cb.equal(root.get("id"), id),
+                cb.equal(root.get("user").get("id"), userId), cb.isFalse(root.get("deleted"))));
+        if (expectedVersion != null) {
+            where.add(cb.equal(root.get("version"), expectedVersion));
+        }
+        update.where(where.toArray(new Predicate[0]));
+
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            throw versionConflict(findOwnedTask(id, userId).getVersion());
+        }
+        taskListCache.invalidate(userId);
+        TaskDto patched = TaskDto.from(findOwnedTask(id, userId));
+        publishChange(userId, TaskChange.Type.UPDATED, id, patched);
+        return patched;
+    }
+
+    private static ResponseStatusException versionConflict(Long currentVersion) {
+        return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                "Task was modified concurrently; current version is " + currentVersion);
+    }
+
+    public void deleteTask(Long id, Long userId) {
+        if (taskRepository.softDeleteByIdAndUserId(id, userId, reserveChangeSeq(userId, 1),
+                LocalDateTime.now()) == 0) {
+            throw new RuntimeException("Task not found");
+        }
+        taskListCache.invalidate(userId);
+        publishChange(userId, TaskChange.Type.DELETED, id, null);
+    }
+
+    /**
+     * Applies a mixed list of operations in one transaction, reporting an outcome per operation. Operations are
+     * processed in chunks: each chunk loads its targets with one query and is flushed as JDBC batches, and the
+     * persistence context is cleared between chunks so memory stays bounded.
+     */
+    public List<TaskBatchResult> applyBatch(List<TaskBatchOperation> operations, Long userId) {
+        if (operations.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Batch exceeds the maximum of " + maxBatchSize + " operations");
+        }
+        List<TaskBatchResult> results = new ArrayList<>(operations.size());
+        if (operations.isEmpty()) {
+            return results;
+        }
+        // Operation i is stamped with firstChangeSeq + i; failed operations just leave gaps.
+        long firstChangeSeq = reserveChangeSeq(userId, operations.size());
+        taskListCache.invalidate(userId);
+        for (int start = 0; start < operations.size(); start += batchChunkSize) {
+            List<TaskBatchOperation> chunk = operations.subList(start,
+                    Math.min(start + batchChunkSize, operations.size()));
+            Map<Long, Task> owned = loadOwnedTasks(chunk, userId);
+            List<Written> written = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(applyOperation(start + i, chunk.get(i), owned, userId, firstChangeSeq + start + i,
+                        written));
+            }
+            entityManager.flush();
+            // Results are filled in after the flush so they carry the versions that were written.
+            for (Written write : written) {
+                TaskDto task = TaskDto.from(write.task());
+                write.result().setTask(task);
+                publishChange(userId, write.type(), task.getId(), task);
+            }
+            entityManager.clear();
+        }
+        return results;
+    }
+
+    private Map<Long, Task> loadOwnedTasks(List<TaskBatchOperation> chunk, Long userId) {
+        Set<Long> ids = new HashSet<>();
+        for (TaskBatchOperation operation : chunk) {
+            if (operation.getType() != TaskBatchOperation.Type.CREATE && operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return taskRepository.findByIdInAndUserId(ids, userId).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private record Written(TaskBatchResult result, Task task, TaskChange.Type type) {
+    }
+
+    /**
+     * Checks a CREATE or UPDATE item as {@link TaskRequest} would be checked; an item that would only fail at flush
+     * would roll back the whole chunk. Returns null when the item is valid.
+     */
+    private String validateFields(TaskBatchOperation operation) {
+        if (operation.getTitle() == null || operation.getTitle().isBlank()) {
+            return "Title is required";
+        }
+        Set<ConstraintViolation<TaskBatchOperation>> violations = validator.validate(operation);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(v -> v.getPropertyPath() + " " + v.getMessage()).sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private TaskBatchResult applyOperation(int index, TaskBatchOperation operation, Map<Long, Task> owned,
+            Long userId, long changeSeq, List<Written> written) {
+        if (operation.getType() == null) {
+            return TaskBatchResult.failed(index, TaskBatchResult.Outcome.INVALID, operation.getId(),
+                    "Operation type is required");
+        }
+        if (operation.getType() == TaskBatchOperation.Type.CREATE) {
+            String invalid = validateFields(operation);
+            if (invalid != null) {
+                return TaskBatchResult.failed(index, TaskBatchResult.Outcome.INVALID, null, invalid);
+            }
+            Task task = new Task();
+            applyFields(task, operation);
+            task.setUser(entityManager.getReference(User.class, userId));
+            task.setChangeSeq(changeSeq);
+            entityManager.persist(task);
+            TaskBatchResult result = TaskBatchResult.ok(index, task.getId(), null);
+            written.add(new Written(result, task, TaskChange.Type.CREATED));
+            return result;
+        }
+
+        Task task = operation.getId() != null ? owned.get(operation.getId()) : null;
+        if (task == null) {
+            return TaskBatchResult.failed(index, TaskBatchResult.Outcome.NOT_FOUND, operation.getId(),
+                    "Task not found");
+        }
+        switch (operation.getType()) {
+            case UPDATE:
+                String invalid = validateFields(operation);
+                if (invalid != null) {
+                    return TaskBatchResult.failed(index, TaskBatchResult.Outcome.INVALID, task.getId(), invalid);
+                }
+                applyFields(task, operation);
+                break;
+            case STATUS:
+                if (operation.getStatus() == null) {
+                    return TaskBatchResult.failed(index, TaskBatchResult.Outcome.INVALID, task.getId(),
+                            "Status is required");
+                }
+                task.setStatus(operation.getStatus());
+                break;
+            case DELETE:
+                owned.remove(task.getId());
+                task.setDeleted(true);
+                task.setDeletedAt(LocalDateTime.now());
+                task.setChangeSeq(changeSeq);
+                publishChange(userId, TaskChange.Type.DELETED, task.getId(), null);
+                return TaskBatchResult.ok(index, task.getId(), null);
+            default:
+                break;
+        }
+        task.setChangeSeq(changeSeq);
+        TaskBatchResult result = TaskBatchResult.ok(index, task.getId(), null);
+        written.add(new Written(result, task, TaskChange.Type.UPDATED));
+        return result;
+    }
+
+    /**
+     * Reserves {@code count} consecutive change sequence numbers for the user and returns the first. The counter
+     * row stays locked until commit, so each user's writes commit in sequence order and a sync cursor can never
+     * pass a change that has not committed yet.
+     */
+    private long reserveChangeSeq(Long userId, int count) {
+        userRepository.incrementChangeSeq(userId, count);
+        return userRepository.findChangeSeq(userId) - count + 1;
+    }
+
+    private void publishChange(Long userId, TaskChange.Type type, Long taskId, TaskDto task) {
+        eventPublisher.publishEvent(new TaskChangedEvent(userId, new TaskChange(type, taskId, task)));
+    }
+
+    private static void applyFields(Task task, TaskRequest request) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus() != null ? request.getStatus() : TaskStatus.TODO);
+        task.setDueDate(request.getDueDate());
+    }
+
+    private static void applyFields(Task task, TaskBatchOperation operation) {
+        task.setTitle(operation.getTitle());
+        task.setDescription(operation.getDescription());
+        task.setStatus(operation.getStatus() != null ? operation.getStatus() : TaskStatus.TODO);
+        task.setDueDate(operation.getDueDate());
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDto> getTasksByStatus(Long userId, TaskStatus status) {
+        return taskListCache.get(userId, statusKey(status),
+                () -> toDtos(taskRepository.findByUserIdAndStatus(userId, status)));
+    }
+
+    @Transactional(readOnly = true)
+    public String getTasksByStatusEtag(Long userId, TaskStatus status) {
+        return taskListCache.etag(userId, statusKey(status));
+    }
+
+    private static String statusKey(TaskStatus status) {
+        return "status-" + status.name();
+    }
+
+    private Task findOwnedTask(Long id, Long userId) {
+        return taskRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new RuntimeException("Task not found"));
     }
 
-    public List<Task> getTasksByStatus(String username, TaskStatus status) {
-        User user = userService.findByUsername(username);
-        return taskRepository.findByUserAndStatus(user, status);
+    private List<TaskDto> toDtos(List<Task> tasks) {
+        return tasks.stream().map(TaskDto::from).collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+}
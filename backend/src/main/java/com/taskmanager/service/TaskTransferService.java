@@ -0,0 +1,204 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskImportResult;
+import com.taskmanager.dto.TaskRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a user's tasks out as NDJSON or CSV and imports them back. Both directions hold at most one chunk of
+ * rows in memory: exports write each row as the cursor yields it, and imports parse the upload record by record
+ * and insert every {@code tasks.transfer.batch-size} valid rows in their own transaction. Invalid records are
+ * skipped and reported by line. Exports carry the task id and version; imports ignore them and create new tasks.
+ */
+@Service
+public class TaskTransferService {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON), CSV(TEXT_CSV);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskTransferService.class);
+
+    private static final CsvSchema EXPORT_SCHEMA = CsvSchema.builder().addColumn("id").addColumn("title")
+            .addColumn("description").addColumn("status").addColumn("dueDate").addColumn("version").build()
+            .withHeader();
+
+    private final TaskService taskService;
+    private final TaskChangeFeed taskChangeFeed;
+    private final Validator validator;
+    private final ObjectWriter jsonWriter;
+    private final ObjectReader jsonReader;
+    private final ObjectWriter csvWriter;
+    private final ObjectReader csvReader;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public TaskTransferService(TaskService taskService, TaskChangeFeed taskChangeFeed, Validator validator,
+            ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder,
+            @Value("${tasks.transfer.batch-size:1000}") int batchSize,
+            @Value("${tasks.transfer.max-errors:1000}") int maxErrors) {
+        this.taskService = taskService;
+        this.taskChangeFeed = taskChangeFeed;
+        this.validator = validator;
+        this.jsonWriter = objectMapper.writerFor(TaskDto.class);
+        this.jsonReader = objectMapper.readerFor(TaskRequest.class);
+        ObjectMapper csvMapper = objectMapperBuilder.factory(new CsvFactory()).build();
+        this.csvWriter = csvMapper.writerFor(TaskDto.class).with(EXPORT_SCHEMA)
+                .with(JsonGenerator.Feature.IGNORE_UNKNOWN).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.csvReader = csvMapper.readerFor(TaskRequest.class).with(CsvSchema.emptySchema().withHeader())
+                .with(CsvParser.Feature.EMPTY_STRING_AS_NULL);
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public void exportTasks(Long userId, Format format, OutputStream out) throws IOException {
+        try {
+            if (format == Format.CSV) {
+                SequenceWriter rows = csvWriter.writeValues(out);
+                taskService.exportTasks(userId, task -> write(() -> rows.write(task)));
+                rows.flush();
+            } else {
+                JsonGenerator generator = jsonWriter.createGenerator(out).setRootValueSeparator(null);
+                taskService.exportTasks(userId, task -> write(() -> {
+                    jsonWriter.writeValue(generator, task);
+                    generator.writeRaw('\n');
+                }));
+                generator.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public TaskImportResult importTasks(Long userId, Format format, InputStream in) throws IOException {
+        Batch batch = new Batch(userId);
+        if (format == Format.CSV) {
+            try (MappingIterator<TaskRequest> records = csvReader.readValues(in)) {
+                while (true) {
+                    long line = 0;
+                    try {
+                        if (!records.hasNextValue()) {
+                            break;
+                        }
+                        // CSV parser locations are 0-based; a record may span lines, so this is where it starts.
+                        line = records.getParser().currentTokenLocation().getLineNr() + 1;
+                        batch.add(line, records.nextValue());
+                    } catch (JsonProcessingException e) {
+                        batch.reject(line, e.getOriginalMessage());
+                    }
+                }
+            }
+        } else {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            long line = 0;
+            for (String text = reader.readLine(); text != null; text = reader.readLine()) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(line, jsonReader.readValue(text));
+                } catch (JsonProcessingException e) {
+                    batch.reject(line, e.getOriginalMessage());
+                }
+            }
+        }
+        batch.flush();
+        if (batch.result.getImported() > 0) {
+            taskChangeFeed.reset(userId);
+        }
+        logger.info("Imported {} tasks for user {}, {} rejected", batch.result.getImported(), userId,
+                batch.result.getFailed());
+        return batch.result;
+    }
+
+    private final class Batch {
+        final Long userId;
+        final TaskImportResult result = new TaskImportResult();
+        final List<TaskRequest> pending = new ArrayList<>(batchSize);
+
+        Batch(Long userId) {
+            this.userId = userId;
+        }
+
+        void add(long line, TaskRequest task) {
+            Set<ConstraintViolation<TaskRequest>> violations = validator.validate(task);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream().map(v -> v.getPropertyPath() + " " + v.getMessage()).sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+            pending.add(task);
+            if (pending.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < maxErrors) {
+                result.getErrors().add(new TaskImportResult.LineError(line, message));
+            }
+        }
+
+        void flush() {
+            taskService.importTasks(pending, userId);
+            result.setImported(result.getImported() + pending.size());
+            pending.clear();
+        }
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    private static void write(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskmanager.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Removes task tombstones once they are older than the retention period. Before a user's tombstones are removed,
+ * that user's sync floor is raised to the highest purged change sequence, so clients syncing from an older
+ * position are told to refetch instead of silently missing deletes.
+ *
+ * <p>Never lazy: nothing injects it, so under lazy initialization it would never be created and never run.
+ */
+@Component
+@Lazy(false)
+public class TombstoneCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TombstoneCompactor.class);
+
+    private static final int USERS_PER_BATCH = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    public TombstoneCompactor(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            @Value("${tasks.sync.tombstone-retention:30d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.sync.compaction-interval:3600000}",
+            initialDelayString = "${tasks.sync.compaction-interval:3600000}")
+    public void compact() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        int purged = 0;
+        Integer batch;
+        while ((batch = transactionTemplate.execute(status -> compactBatch(cutoff))) != null && batch > 0) {
+            purged += batch;
+        }
+        if (purged > 0) {
+            logger.info("Purged {} task tombstones older than {}", purged, cutoff);
+        }
+    }
+
+    private int compactBatch(Timestamp cutoff) {
+        List<Object[]> floors = jdbcTemplate.query(
+                "select user_id, max(change_seq) from tasks where deleted = true and deleted_at < ? "
+                        + "group by user_id limit " + USERS_PER_BATCH,
+                (rs, rowNum) -> new Object[] { rs.getLong(2), rs.getLong(1) }, cutoff);
+        if (floors.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate("update users set sync_floor = greatest(sync_floor, ?) where id = ?", floors);
+        // Per-user sequences commit in order, so every tombstone at or below the floor is already visible here.
+        int purged = 0;
+        for (int count : jdbcTemplate.batchUpdate(
+                "delete from tasks where deleted = true and change_seq <= ? and user_id = ?", floors)) {
+            purged += Math.max(count, 0);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskmanager.service;
+
+import com.taskmanager.event.UserRegisteredEvent;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.util.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Answers username and email availability for the signup form. A Bloom filter over every registered name
+ * settles the common "free" case in memory; only a possible match is confirmed against the database. Until the
+ * first build has finished, every check goes to the database.
+ *
+ * <p>Sign-ups on other instances reach this filter at the next periodic rebuild, so an answer of "available" is
+ * advisory; registration itself is decided by the unique constraints.
+ *
+ * <p>Never lazy: under lazy initialization the first build would wait for the first request to AuthController.
+ */
+@Component
+@Lazy(false)
+public class UserAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAvailabilityIndex.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final int expectedUsers;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building; // also receives sign-ups while a rebuild is scanning the table
+
+    public UserAvailabilityIndex(JdbcTemplate jdbcTemplate, UserRepository userRepository,
+            @Value("${users.availability.expected-users:1000000}") int expectedUsers,
+            @Value("${users.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        BloomFilter current = filter;
+        return (current != null && !current.mightContain(usernameKey(username)))
+                || !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        BloomFilter current = filter;
+        return (current != null && !current.mightContain(emailKey(email))) || !userRepository.existsByEmail(email);
+    }
+
+    // After commit, so a rebuild that started earlier either reads the row or is handed the names here.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        for (BloomFilter target : new BloomFilter[] { filter, building }) {
+            if (target != null) {
+                target.put(usernameKey(event.getUsername()));
+                target.put(emailKey(event.getEmail()));
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the users table, first at startup and then periodically to pick up sign-ups made
+     * on other instances. Reads the primary, so a lagging replica cannot leave out recent accounts.
+     */
+    @Scheduled(fixedDelayString = "${users.availability.rebuild-interval:900000}")
+    @Transactional
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        Long users = jdbcTemplate.queryForObject("select count(*) from users", Long.class);
+        // Two keys per user; sized for growth until the next rebuild
+        BloomFilter rebuilt = new BloomFilter((int) Math.min(Integer.MAX_VALUE,
+                2 * Math.max(expectedUsers, 2 * (users != null ? users : 0))), falsePositiveRate);
+        building = rebuilt;
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("select username, email from users",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(1000);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                rebuilt.put(usernameKey(rs.getString(1)));
+                rebuilt.put(emailKey(rs.getString(2)));
+            });
+            filter = rebuilt;
+        } finally {
+            building = null;
+        }
+        logger.info("Rebuilt the user availability filter from {} users in {} ms", users,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static String usernameKey(String username) {
+        return "u:" + username;
+    }
+
+    private static String emailKey(String email) {
+        return "e:" + email;
+    }
+}
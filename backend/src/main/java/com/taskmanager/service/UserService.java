@@ -1,43 +1,92 @@
 package com.taskmanager.service;
 
+import com.taskmanager.event.UserRegisteredEvent;
 import com.taskmanager.model.User;
 import com.taskmanager.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
 import java.util.regex.Pattern;
 
 @Service
 @Transactional
 public class UserService {
 
+    private static final String USERNAME_TAKEN = "Username is already taken!";
+    private static final String EMAIL_TAKEN = "Email is already in use!";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserAvailabilityIndex availabilityIndex;
     private static final Pattern PASSWORD_PATTERN = 
         Pattern.compile("^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=])(?=\\S+$).{8,}$");
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            ApplicationEventPublisher eventPublisher, UserAvailabilityIndex availabilityIndex) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.availabilityIndex = availabilityIndex;
     }
 
+    /**
+     * Creates the account with a single INSERT. The availability index turns away a taken username or email before
+     * the password is hashed, answering new names from memory; the unique constraints settle any race after it.
+     */
     public User registerUser(User user) {
-        if (userRepository.existsByUsername(user.getUsername())) {
-            throw new RuntimeException("Username is already taken!");
+        validatePassword(user.getPassword());
+        if (!availabilityIndex.isUsernameAvailable(user.getUsername())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, USERNAME_TAKEN);
+        }
+        if (!availabilityIndex.isEmailAvailable(user.getEmail())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, EMAIL_TAKEN);
         }
 
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new RuntimeException("Email is already in use!");
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        User saved;
+        try {
+            saved = userRepository.save(user); // identity ids: the INSERT runs here, not at commit
+        } catch (DataIntegrityViolationException e) {
+            throw registrationConflict(e);
         }
+        eventPublisher.publishEvent(new UserRegisteredEvent(saved.getUsername(), saved.getEmail()));
+        return saved;
+    }
 
-        if (!PASSWORD_PATTERN.matcher(user.getPassword()).matches()) {
-            throw new RuntimeException("Password must be at least 8 characters long and contain at least one digit, one uppercase letter, one lowercase letter, and one special character!");
+    private static RuntimeException registrationConflict(DataIntegrityViolationException e) {
+        String constraint = null;
+        for (Throwable cause = e; cause != null && constraint == null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                constraint = violation.getConstraintName();
+            }
         }
+        // Not every driver reports the name separately; the message names the constraint or its index
+        String violated = (constraint != null ? constraint : e.getMostSpecificCause().getMessage())
+                .toLowerCase(Locale.ROOT);
+        if (violated.contains(User.USERNAME_CONSTRAINT)) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, USERNAME_TAKEN);
+        }
+        if (violated.contains(User.EMAIL_CONSTRAINT)) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, EMAIL_TAKEN);
+        }
+        return e;
+    }
 
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+    private void validatePassword(String password) {
+        if (!PASSWORD_PATTERN.matcher(password).matches()) {
+            throw new RuntimeException("Password must be at least 8 characters long and contain at least one digit, one uppercase letter, one lowercase letter, and one special character!");
+        }
     }
 
+    @Transactional(readOnly = true)
     public User findByUsername(String username) {
         return userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
@@ -0,0 +1,116 @@
+package com.taskmanager.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel: each level has 64 slots, and a slot on level {@code n} spans 64<sup>n</sup> ticks.
+ * Scheduling is O(1), and advancing one tick touches one level-0 slot plus, on level boundaries, one slot per
+ * higher level whose entries cascade down. Deadlines beyond the top level are parked there and re-filed when
+ * their slot comes round.
+ *
+ * <p>Not thread-safe; drive it from a single thread.
+ */
+public class TimerWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final long maxDelayTicks;
+    private final List<ArrayDeque<Entry<T>>> slots;
+    private final ArrayDeque<Entry<T>> expired = new ArrayDeque<>();
+    private long currentTick;
+    private int size;
+
+    public TimerWheel(long tickMillis, int levels, long nowMillis) {
+        if (tickMillis <= 0 || levels < 1 || levels * SLOT_BITS >= 62) {
+            throw new IllegalArgumentException("Invalid timer wheel geometry");
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.maxDelayTicks = (1L << (levels * SLOT_BITS)) - 1;
+        this.slots = new ArrayList<>(levels * SLOTS);
+        for (int i = 0; i < levels * SLOTS; i++) {
+            slots.add(new ArrayDeque<>());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /** Schedules {@code item} to expire at the first tick at or after {@code deadlineMillis}. */
+    public void schedule(T item, long deadlineMillis) {
+        file(new Entry<>(item, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis)));
+        size++;
+    }
+
+    /** Advances the wheel to {@code nowMillis}, handing every item that has expired to {@code action}. */
+    public void advance(long nowMillis, Consumer<? super T> action) {
+        long targetTick = nowMillis / tickMillis;
+        drainExpired(action);
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick++;
+            // Higher levels first, so their entries land in lower slots before those are cascaded in turn.
+            int level = 1;
+            while (level < levels && (currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                level++;
+            }
+            for (level--; level >= 1; level--) {
+                cascade(level);
+            }
+            ArrayDeque<Entry<T>> slot = slot(0, currentTick);
+            expired.addAll(slot);
+            slot.clear();
+            drainExpired(action);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int level) {
+        ArrayDeque<Entry<T>> slot = slot(level, currentTick >>> (level * SLOT_BITS));
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<Entry<T>> entries = new ArrayList<>(slot);
+        slot.clear();
+        entries.forEach(this::file);
+    }
+
+    private void file(Entry<T> entry) {
+        long delay = entry.deadlineTick - currentTick;
+        if (delay <= 0) {
+            expired.add(entry);
+            return;
+        }
+        long tick = currentTick + Math.min(delay, maxDelayTicks);
+        int level = 0;
+        while ((tick - currentTick) >= (1L << ((level + 1) * SLOT_BITS))) {
+            level++;
+        }
+        slot(level, tick >>> (level * SLOT_BITS)).add(entry);
+    }
+
+    private void drainExpired(Consumer<? super T> action) {
+        for (Entry<T> entry = expired.poll(); entry != null; entry = expired.poll()) {
+            size--;
+            action.accept(entry.item);
+        }
+    }
+
+    private ArrayDeque<Entry<T>> slot(int level, long index) {
+        return slots.get(level * SLOTS + (int) (index & SLOT_MASK));
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
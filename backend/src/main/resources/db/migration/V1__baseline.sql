@@ -0,0 +1,61 @@
+-- Schema as of the switch from Hibernate ddl-auto to migrations. Databases that ddl-auto=update created earlier
+-- are baselined at version 0 and run this script too, so every statement only adds what is missing: the tables
+-- as first created, then the columns added to them since.
+
+CREATE TABLE IF NOT EXISTS users (
+    id         bigserial PRIMARY KEY,
+    username   varchar(255) UNIQUE,
+    email      varchar(255) UNIQUE,
+    password   varchar(255)
+);
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS change_seq bigint NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS sync_floor bigint NOT NULL DEFAULT 0;
+
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id          bigint PRIMARY KEY,
+    title       varchar(255),
+    description varchar(255),
+    status      varchar(255) CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    due_date    timestamp(6),
+    user_id     bigint REFERENCES users
+);
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_seq bigint NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS deleted boolean NOT NULL DEFAULT false;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS deleted_at timestamp(6);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS reminder_due_date timestamp(6);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS reminder_stage integer NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS reminder_lease_until timestamp(6);
+
+-- Tasks created while ids came from an identity column: move the sequence past them.
+SELECT setval('tasks_seq', (SELECT max(id) FROM tasks) + 50)
+WHERE (SELECT max(id) FROM tasks) >= (SELECT last_value FROM tasks_seq);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_id ON tasks (user_id, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_due_date ON tasks (user_id, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_status_due_date ON tasks (user_id, status, due_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_user_change_seq ON tasks (user_id, change_seq);
+CREATE INDEX IF NOT EXISTS idx_tasks_deleted_at ON tasks (deleted_at);
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_status ON tasks (due_date, status);
+
+-- Full-text search; must match TaskSearchRepository.SEARCH_DOCUMENT for the planner to use it.
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks
+    USING gin (to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(description, '')));
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        varchar(64) PRIMARY KEY,
+    expires_at timestamp(6) with time zone NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key   varchar(200) PRIMARY KEY,
+    arrival_time bigint NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_arrival_time ON rate_limit_buckets (arrival_time);
@@ -0,0 +1,32 @@
+-- Registration inserts without checking first and tells a taken username from a taken email by the name of the
+-- violated constraint. V1 left PostgreSQL's generated names (users_username_key) and ddl-auto databases have
+-- Hibernate's random ones, so rename whichever single-column unique constraint exists, and add any that is missing.
+DO $$
+DECLARE
+    c record;
+    col text;
+BEGIN
+    FOR c IN
+        SELECT con.conname, att.attname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+        WHERE con.conrelid = 'users'::regclass AND con.contype = 'u' AND cardinality(con.conkey) = 1
+          AND att.attname IN ('username', 'email')
+    LOOP
+        IF c.conname <> 'uk_users_' || c.attname THEN
+            IF EXISTS (SELECT 1 FROM pg_constraint
+                       WHERE conrelid = 'users'::regclass AND conname = 'uk_users_' || c.attname) THEN
+                EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', c.conname);
+            ELSE
+                EXECUTE format('ALTER TABLE users RENAME CONSTRAINT %I TO %I', c.conname, 'uk_users_' || c.attname);
+            END IF;
+        END IF;
+    END LOOP;
+
+    FOREACH col IN ARRAY ARRAY['username', 'email'] LOOP
+        IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                       WHERE conrelid = 'users'::regclass AND conname = 'uk_users_' || col) THEN
+            EXECUTE format('ALTER TABLE users ADD CONSTRAINT %I UNIQUE (%I)', 'uk_users_' || col, col);
+        END IF;
+    END LOOP;
+END $$;